@@ -185,6 +185,7 @@ class CrudGenerator:
         imports = [
             "jakarta.persistence.*",
             f"{BASE_PACKAGE}.dto.search.FieldConfig",
+            f"{BASE_PACKAGE}.service.search.SearchSchema",
             "lombok.*",
             "lombok.experimental.SuperBuilder",
             "java.util.List"
@@ -262,6 +263,11 @@ public class {self.entity_name} extends BaseModel {{
      */
     public static final List<FieldConfig> PAGINATION_FIELDS = List.of(
 {pagination_fields_str});
+
+    /**
+     * PAGINATION_FIELDS compiled for lookups by name; shared by all searches.
+     */
+    public static final SearchSchema<{self.entity_name}> SEARCH_SCHEMA = SearchSchema.compile({self.entity_name}.class, PAGINATION_FIELDS);
 }}
 """
         return template
@@ -441,11 +447,11 @@ public class {self.entity_name}Response extends BaseResponse {{
         """Generate Service Interface"""
         template = f"""package {BASE_PACKAGE}.service.{self.entity_lower};
 
-import org.springframework.data.domain.Page;
 
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}CreateRequest;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}Response;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}UpdateRequest;
+import {BASE_PACKAGE}.dto.search.PageResponse;
 import {BASE_PACKAGE}.dto.search.PaginationRequest;
 
 /**
@@ -462,7 +468,7 @@ public interface {self.entity_name}Service {{
      * @param request the pagination request containing search, filters, sorts, page, and size
      * @return page of {self.entity_lower} responses matching the criteria
      */
-    Page<{self.entity_name}Response> search(PaginationRequest request);
+    PageResponse<{self.entity_name}Response> search(PaginationRequest request);
 
     /**
      * Creates a new {self.entity_lower}.
@@ -509,13 +515,13 @@ public interface {self.entity_name}Service {{
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}CreateRequest;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}Response;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}UpdateRequest;
+import {BASE_PACKAGE}.dto.search.PageResponse;
 import {BASE_PACKAGE}.dto.search.PaginationRequest;
 import {BASE_PACKAGE}.mapper.{self.entity_name}Mapper;
 import {BASE_PACKAGE}.model.{self.entity_name};
@@ -541,13 +547,13 @@ public class {self.entity_name}ServiceImpl implements {self.entity_name}Service
 
     @Override
     @Transactional(readOnly = true)
-    public Page<{self.entity_name}Response> search(PaginationRequest request) {{
+    public PageResponse<{self.entity_name}Response> search(PaginationRequest request) {{
         log.debug("Searching {self.entity_lower}s with request: {{}}", request);
         
-        Page<{self.entity_name}> {self.entity_camel}Page = paginationService.search(
+        PageResponse<{self.entity_name}> {self.entity_camel}Page = paginationService.search(
                 request, 
                 {self.entity_camel}Repository, 
-                {self.entity_name}.PAGINATION_FIELDS);
+                {self.entity_name}.SEARCH_SCHEMA);
         
         return {self.entity_camel}Page.map({self.entity_camel}Mapper::toResponse);
     }}
@@ -592,11 +598,9 @@ public class {self.entity_name}ServiceImpl implements {self.entity_name}Service
     public void delete(Long id) {{
         log.info("Deleting {self.entity_lower} with ID: {{}}", id);
 
-        {self.entity_name} {self.entity_camel} = {self.entity_camel}Repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("{self.entity_name} not found with ID: " + id));
-
-        {self.entity_camel}.softDelete();
-        {self.entity_camel}Repository.save({self.entity_camel});
+        if ({self.entity_camel}Repository.softDeleteById(id) == 0) {{
+            throw new ResourceNotFoundException("{self.entity_name} not found with ID: " + id);
+        }}
 
         log.info("Deleted {self.entity_lower} with ID: {{}}", id);
     }}
@@ -684,7 +688,6 @@ public interface {self.entity_name}Mapper {{
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -693,6 +696,7 @@ import {BASE_PACKAGE}.dto.core.SuccessResponse;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}CreateRequest;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}Response;
 import {BASE_PACKAGE}.dto.{self.entity_lower}.{self.entity_name}UpdateRequest;
+import {BASE_PACKAGE}.dto.search.PageResponse;
 import {BASE_PACKAGE}.dto.search.PaginationRequest;
 import {BASE_PACKAGE}.service.{self.entity_lower}.{self.entity_name}Service;
 import {BASE_PACKAGE}.util.ResponseHandler;
@@ -717,9 +721,9 @@ public class {self.entity_name}ApiController {{
      * @return page of {self.entity_lower} responses with HTTP 200
      */
     @PostMapping("/search")
-    public ResponseEntity<SuccessResponse<Page<{self.entity_name}Response>>> search(@RequestBody PaginationRequest request) {{
+    public ResponseEntity<SuccessResponse<PageResponse<{self.entity_name}Response>>> search(@RequestBody PaginationRequest request) {{
         log.info("REST request to search {self.entity_lower}s - request: {{}}", request);
-        Page<{self.entity_name}Response> response = {self.entity_camel}Service.search(request);
+        PageResponse<{self.entity_name}Response> response = {self.entity_camel}Service.search(request);
         return ResponseHandler.success("{self.entity_name}s retrieved successfully", response);
     }}
 
@@ -0,0 +1,100 @@
+package com.valome.starter.benchmark;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.valome.starter.config.JwtProperties;
+import com.valome.starter.constant.TokenType;
+import com.valome.starter.service.auth.JwtClaims;
+import com.valome.starter.service.auth.JwtService;
+import com.valome.starter.service.auth.JwtVerifier;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the per-request cost of authenticating an access token.
+ *
+ * {@code legacy} reproduces the former JwtFilter path: three parses, each
+ * decoding the secret, deriving the key and building a parser.
+ * {@code precompiled} is a single verification with cached parsers and the
+ * verified-token cache disabled. {@code cachedHit} is the verified-token cache
+ * hit path taken when a client reuses its access token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "q3t6w9z$C&F)J@NcRfUjXn2r5u8x/A?D";
+
+    private String encodedSecret;
+    private String token;
+    private JwtVerifier verifier;
+    private JwtVerifier cachingVerifier;
+
+    @Setup
+    public void setup() {
+        encodedSecret = Base64.getEncoder().encodeToString(SECRET.getBytes());
+
+        verifier = new JwtVerifier(properties(false), new SimpleMeterRegistry());
+        cachingVerifier = new JwtVerifier(properties(true), new SimpleMeterRegistry());
+        token = new JwtService(properties(false), verifier).generateAccessToken("benchmark-user");
+        cachingVerifier.verify(TokenType.ACCESS, token);
+    }
+
+    private JwtProperties properties(boolean cacheEnabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.getAccess().setSecret(encodedSecret);
+        properties.getAccess().setExpiration(3_600_000L);
+        properties.getRefresh().setSecret(encodedSecret);
+        properties.getRefresh().setExpiration(3_600_000L);
+        properties.getCache().setEnabled(cacheEnabled);
+        return properties;
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(encodedSecret)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        String again = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(encodedSecret)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        Date expiration = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(encodedSecret)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getExpiration();
+        return username.equals(again) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        JwtClaims claims = verifier.verify(TokenType.ACCESS, token);
+        return claims.getSubject().equals("benchmark-user") && !claims.isExpired();
+    }
+
+    @Benchmark
+    public boolean cachedHit() {
+        JwtClaims claims = cachingVerifier.verify(TokenType.ACCESS, token);
+        return claims.getSubject().equals("benchmark-user") && !claims.isExpired();
+    }
+}
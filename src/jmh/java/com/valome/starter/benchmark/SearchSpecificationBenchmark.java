@@ -0,0 +1,118 @@
+package com.valome.starter.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Sort;
+
+import com.valome.starter.builder.SortBuilder;
+import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SortRequest;
+import com.valome.starter.model.Product;
+import com.valome.starter.service.search.GenericSpecification;
+
+/**
+ * Compares the cost of turning a product search request into a validated
+ * specification and sort, excluding Criteria construction.
+ *
+ * {@code legacy} reproduces the former path: stream scans of
+ * {@code PAGINATION_FIELDS} for validation, sorting and every filter, and the
+ * {@code convertToType} if-chain. {@code compiled} uses
+ * {@code Product.SEARCH_SCHEMA}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchSpecificationBenchmark {
+    private PaginationRequest request;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("name", "phone");
+        filters.put("price", "199.99");
+        filters.put("createdAt", "2025-01-01T00:00:00");
+
+        request = PaginationRequest.createDefault();
+        request.setSearch("phone");
+        request.setFilters(filters);
+        request.setSorts(new ArrayList<>(List.of(
+                new SortRequest("createdAt", "desc"),
+                new SortRequest("name", "asc"))));
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        Product.SEARCH_SCHEMA.validate(request);
+        blackhole.consume(new GenericSpecification<>(request, Product.SEARCH_SCHEMA));
+        blackhole.consume(SortBuilder.build(request.getSorts(), Product.SEARCH_SCHEMA));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        List<FieldConfig> whitelist = Product.PAGINATION_FIELDS;
+
+        List<String> allowedFields = whitelist.stream().map(FieldConfig::getName).toList();
+        blackhole.consume(request.getSorts().stream()
+                .map(SortRequest::getField)
+                .filter(field -> !allowedFields.contains(field))
+                .toList());
+        List<String> allowedFilterFields = whitelist.stream()
+                .filter(FieldConfig::isFilterable)
+                .map(FieldConfig::getName)
+                .toList();
+        blackhole.consume(request.getFilters().keySet().stream()
+                .filter(field -> !allowedFilterFields.contains(field))
+                .toList());
+
+        blackhole.consume(whitelist.stream()
+                .filter(FieldConfig::isSearchable)
+                .filter(f -> f.getType() == String.class)
+                .toList());
+        for (Map.Entry<String, Object> entry : request.getFilters().entrySet()) {
+            whitelist.stream()
+                    .filter(f -> f.isFilterable() && f.getName().equals(entry.getKey()))
+                    .findFirst()
+                    .ifPresent(f -> blackhole.consume(convertToType(f.getType(), entry.getValue())));
+        }
+
+        blackhole.consume(Sort.by(request.getSorts().stream()
+                .filter(s -> whitelist.stream().anyMatch(f -> f.getName().equals(s.getField())))
+                .map(s -> new Sort.Order("desc".equalsIgnoreCase(s.getDirection())
+                        ? Sort.Direction.DESC
+                        : Sort.Direction.ASC, s.getField()))
+                .toList()));
+    }
+
+    private static Object convertToType(Class<?> type, Object value) {
+        if (value == null)
+            return null;
+        if (type == Integer.class || type == int.class)
+            return Integer.valueOf(value.toString());
+        if (type == Long.class || type == long.class)
+            return Long.valueOf(value.toString());
+        if (type == Boolean.class || type == boolean.class)
+            return Boolean.valueOf(value.toString());
+        if (type == Double.class || type == double.class)
+            return Double.valueOf(value.toString());
+        if (type == LocalDateTime.class)
+            return LocalDateTime.parse(value.toString());
+        if (type == BigDecimal.class)
+            return new BigDecimal(value.toString());
+        return value;
+    }
+}
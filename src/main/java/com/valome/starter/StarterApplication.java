@@ -3,11 +3,21 @@ package com.valome.starter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.valome.starter.config.PasswordHashingProperties;
+import com.valome.starter.repository.jpa.core.BaseJpaRepository;
+import com.valome.starter.service.auth.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @SpringBootApplication
+@EnableScheduling
+@EnableJpaRepositories(repositoryBaseClass = BaseJpaRepository.class)
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class StarterApplication {
 
@@ -16,8 +26,9 @@ public class StarterApplication {
 	}
 
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(properties.getStrength()), properties,
+				meterRegistry);
 	}
 
 }
@@ -1,25 +1,27 @@
 package com.valome.starter.builder;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.Sort;
 
-import com.valome.starter.dto.search.FieldConfig;
 import com.valome.starter.dto.search.SortRequest;
+import com.valome.starter.service.search.SearchSchema;
 
 public class SortBuilder {
-    public static Sort build(List<SortRequest> sorts, List<FieldConfig> whitelist) {
+    public static Sort build(List<SortRequest> sorts, SearchSchema<?> schema) {
         if (sorts == null || sorts.isEmpty())
             return Sort.unsorted();
 
-        List<Sort.Order> orders = sorts.stream()
-                .filter(s -> whitelist.stream().anyMatch(f -> f.getName().equals(s.getField())))
-                .map(s -> {
-                    Sort.Direction dir = "desc".equalsIgnoreCase(s.getDirection()) ? Sort.Direction.DESC
-                            : Sort.Direction.ASC;
-                    return new Sort.Order(dir, s.getField());
-                })
-                .toList();
+        List<Sort.Order> orders = new ArrayList<>(sorts.size());
+        for (SortRequest s : sorts) {
+            if (schema.field(s.getField()) == null) {
+                continue;
+            }
+            Sort.Direction dir = "desc".equalsIgnoreCase(s.getDirection()) ? Sort.Direction.DESC
+                    : Sort.Direction.ASC;
+            orders.add(new Sort.Order(dir, s.getField()));
+        }
 
         return Sort.by(orders);
     }
@@ -0,0 +1,21 @@
+package com.valome.starter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Bulk endpoints: items are written {@code chunkSize} at a time, one JDBC
+ * batch and one transaction per chunk. A request is cut off after
+ * {@code maxItems}, and at most {@code maxReportedErrors} item errors are
+ * listed in the response; the rest are only counted.
+ */
+@Component
+@ConfigurationProperties(prefix = "bulk")
+@Data
+public class BulkProperties {
+    private int chunkSize = 1000;
+    private int maxItems = 100_000;
+    private int maxReportedErrors = 1000;
+}
@@ -1,5 +1,9 @@
 package com.valome.starter.config;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -10,12 +14,64 @@ import lombok.Data;
 @Data
 public class JwtProperties {
 
+    /**
+     * When true, access tokens carry the user id and role names and
+     * {@code JwtFilter} authenticates from the claims alone, without a
+     * database lookup per request.
+     */
+    private boolean stateless = false;
+
     private Token access = new Token();
     private Token refresh = new Token();
+    private Cache cache = new Cache();
+    private Revocation revocation = new Revocation();
 
+    /**
+     * Keys and lifetime of one token type.
+     *
+     * {@code secret} is the single key used before key rotation was
+     * configured; tokens without a {@code kid} header are verified against it.
+     * {@code keys} is the ring of active keys looked up by {@code kid}, and
+     * {@code signingKeyId} selects the one that signs new tokens. To rotate,
+     * add the new key, deploy, switch {@code signingKeyId}, then remove the
+     * old key (or let its {@code verifyUntil} pass) once its tokens expired.
+     */
     @Data
     public static class Token {
         private String secret;
         private long expiration;
+        private String signingKeyId;
+        private List<SigningKey> keys = new ArrayList<>();
+    }
+
+    /**
+     * A Base64 HMAC secret identified by {@code id}. Tokens signed with it are
+     * rejected after {@code verifyUntil}, when set.
+     */
+    @Data
+    public static class SigningKey {
+        private String id;
+        private String secret;
+        private Instant verifyUntil;
+    }
+
+    /**
+     * Cache of verified access tokens. Entries are evicted no later than the
+     * token's expiry; maximumSize is the hard cap on entries.
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 50_000;
+    }
+
+    /**
+     * Sizing of the in-memory revocation list, applied per Bloom filter
+     * window.
+     */
+    @Data
+    public static class Revocation {
+        private int expectedInsertions = 10_000;
+        private double falsePositiveRate = 0.01;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.valome.starter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Runs projected searches through the native SQL engine instead of the
+ * Criteria API. Entity searches always use the Criteria API.
+ */
+@Component
+@ConfigurationProperties(prefix = "search.native")
+@Data
+public class NativeSearchProperties {
+    private boolean enabled = false;
+}
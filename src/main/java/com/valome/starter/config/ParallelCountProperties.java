@@ -0,0 +1,26 @@
+package com.valome.starter.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Runs the page and count queries of EXACT searches concurrently.
+ *
+ * Each parallel search holds two pooled connections, the caller's for the
+ * page and one for the count, so at most
+ * {@code maxConcurrent} searches run this way at once; the rest, and any
+ * that cannot get a permit within {@code acquireTimeout}, run sequentially.
+ * A {@code maxConcurrent} of 0 allows a quarter of the Hikari pool.
+ */
+@Component
+@ConfigurationProperties(prefix = "search.parallel-count")
+@Data
+public class ParallelCountProperties {
+    private boolean enabled = false;
+    private int maxConcurrent = 0;
+    private Duration acquireTimeout = Duration.ZERO;
+}
@@ -0,0 +1,24 @@
+package com.valome.starter.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * BCrypt cost factor and the bounded executor that runs every hash.
+ *
+ * Raising {@code strength} takes effect for existing users on their next
+ * successful login, when the stored hash is transparently upgraded.
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.password")
+@Data
+public class PasswordHashingProperties {
+    private int strength = 10;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 2 * Runtime.getRuntime().availableProcessors();
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
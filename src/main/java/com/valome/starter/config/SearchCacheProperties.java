@@ -0,0 +1,19 @@
+package com.valome.starter.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "cache.search")
+@Data
+public class SearchCacheProperties {
+    private boolean enabled = true;
+    // Upper bound on the estimated size of all cached pages, in bytes
+    private long maximumWeight = 64L * 1024 * 1024;
+    // Backstop for changes made outside the services (SQL, other instances)
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,54 @@
+package com.valome.starter.config;
+
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text functions used by global search.
+ *
+ * <ul>
+ * <li>{@code fts_match(vector, query)}: {@code vector @@ to_tsquery(query)}</li>
+ * <li>{@code fts_rank(vector, query)}: {@code ts_rank(vector, to_tsquery(query))}</li>
+ * </ul>
+ *
+ * Both use the {@code simple} configuration, matching the expression of the
+ * generated {@code search_vector} columns, and take a query built by
+ * {@link #prefixQuery(String)}. Registered through {@code META-INF/services}.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+    public static final String MATCH = "fts_match";
+    public static final String RANK = "fts_rank";
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    /**
+     * Turns search text into a {@code to_tsquery} expression: every word must
+     * match, the last one as a prefix, so "lap" finds "Laptop" while the user
+     * is still typing. Only letters and digits are kept, so the text cannot
+     * inject tsquery operators.
+     *
+     * @return the query, empty (matching nothing) if the text has no words
+     */
+    public static String prefixQuery(String text) {
+        List<String> words = WORD.matcher(text).results().map(MatchResult::group).toList();
+        return words.isEmpty() ? "" : String.join(" & ", words) + ":*";
+    }
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(MATCH,
+                "(?1 @@ to_tsquery('simple', ?2))",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(RANK,
+                "ts_rank(?1, to_tsquery('simple', ?2))",
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.valome.starter.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.valome.starter.service.search.TracingDataSource;
+
+/**
+ * Wraps the application data source in a {@link TracingDataSource} so the
+ * slow-search log can see the SQL and bind values of each search.
+ *
+ * The wrapper is applied after initialization, once the pool's
+ * {@code spring.datasource.*} properties are bound; {@code unwrap} still
+ * reaches the pool for metrics and pool-size lookups. Unless
+ * {@code search.slow-log.enabled=true} nothing is wrapped, so connections
+ * pay no proxy cost.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "search.slow-log", name = "enabled", havingValue = "true")
+public class SearchTracingConfig {
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.valome.starter.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Slow-search log and request-level explain mode.
+ *
+ * Searches slower than {@code threshold} are logged with their SQL, bind
+ * values and timing, and their SELECTs are run again under
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} in the background, at most
+ * {@code explainQueueCapacity} waiting at a time. Requests sent with
+ * {@code "explain": true} by a holder of {@code explainAuthority} get the
+ * plans in the response instead. Off unless {@code enabled} is set.
+ */
+@Component
+@ConfigurationProperties(prefix = "search.slow-log")
+@Data
+public class SlowSearchProperties {
+    private boolean enabled = false;
+    private Duration threshold = Duration.ofMillis(500);
+    private boolean redactBinds = true;
+    private String explainAuthority = "ROLE_SUPER_ADMIN";
+    private Duration explainTimeout = Duration.ofSeconds(10);
+    private int explainQueueCapacity = 16;
+}
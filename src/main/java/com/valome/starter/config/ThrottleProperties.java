@@ -0,0 +1,33 @@
+package com.valome.starter.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token buckets guarding the authentication endpoints. Each bucket allows a
+ * burst of {@code capacity} attempts and refills at capacity per
+ * {@code period}. Idle buckets are evicted after one period.
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.throttle")
+@Data
+public class ThrottleProperties {
+    private boolean enabled = true;
+    private long maximumKeys = 100_000;
+    private Bucket ip = new Bucket(20, Duration.ofMinutes(1));
+    private Bucket username = new Bucket(5, Duration.ofMinutes(1));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -1,5 +1,16 @@
 package com.valome.starter.constant;
 
 public class JwtConstant {
-    
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    // Custom claims embedded in access tokens in stateless mode
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+
+    // Refresh token family shared by every rotation of a login session
+    public static final String CLAIM_FAMILY_ID = "fid";
+
+    // Issue time in milliseconds, as iat only has second precision
+    public static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
 }
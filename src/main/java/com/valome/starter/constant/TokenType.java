@@ -0,0 +1,10 @@
+package com.valome.starter.constant;
+
+/**
+ * Kinds of JWT issued by the application. Each type has its own secret and
+ * expiration configured under {@code jwt.<type>}.
+ */
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.valome.starter.dto.auth.AuthRequest;
 import com.valome.starter.dto.auth.LoginResponse;
+import com.valome.starter.dto.auth.RefreshTokenRequest;
 import com.valome.starter.dto.auth.RegisterRequest;
 import com.valome.starter.dto.auth.RegisterResponse;
 import com.valome.starter.dto.core.SuccessResponse;
@@ -29,6 +30,17 @@ public class AuthApiController {
         return ResponseHandler.success("Login successfully", authService.login(request));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<SuccessResponse<LoginResponse>> refresh(@RequestBody RefreshTokenRequest request) {
+        return ResponseHandler.success("Token refreshed successfully", authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<SuccessResponse<Object>> logout(@RequestBody(required = false) RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseHandler.success("Logout successfully");
+    }
+
     @PostMapping("/register")
     public ResponseEntity<SuccessResponse<RegisterResponse>> register(@RequestBody RegisterRequest request) {
         return ResponseHandler.success("User registered successfully", authService.register(request));
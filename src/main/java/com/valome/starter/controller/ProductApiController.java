@@ -3,16 +3,30 @@ package com.valome.starter.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.valome.starter.dto.core.BulkResponse;
 import com.valome.starter.dto.core.SuccessResponse;
 import com.valome.starter.dto.product.ProductCreateRequest;
 import com.valome.starter.dto.product.ProductResponse;
 import com.valome.starter.dto.product.ProductUpdateRequest;
+import com.valome.starter.dto.search.ExportFormat;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SortRequest;
 import com.valome.starter.service.product.ProductService;
 import com.valome.starter.util.ResponseHandler;
 
@@ -28,6 +42,7 @@ import com.valome.starter.util.ResponseHandler;
 @Slf4j
 public class ProductApiController {
     private final ProductService productService;
+    private final JsonMapper jsonMapper;
 
     /**
      * Searches products with pagination, filtering, and sorting.
@@ -37,12 +52,40 @@ public class ProductApiController {
      * @return page of product responses with HTTP 200
      */
     @PostMapping("/search")
-    public ResponseEntity<SuccessResponse<Page<ProductResponse>>> search(@RequestBody PaginationRequest request) {
+    public ResponseEntity<SuccessResponse<PageResponse<ProductResponse>>> search(@RequestBody PaginationRequest request) {
         log.info("REST request to search products - request: {}", request);
-        Page<ProductResponse> response = productService.search(request);
+        PageResponse<ProductResponse> response = productService.search(request);
         return ResponseHandler.success("Products retrieved successfully", response);
     }
 
+    /**
+     * Streams every product matching the search and filters, without paging.
+     * 
+     * @param format  ndjson (default) or csv
+     * @param search  global search text
+     * @param filters filters as a JSON object, same grammar as search
+     * @param sort    sort orders as {@code field:direction}; repeatable
+     * @return the rows, written as they are read
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String filters,
+            @RequestParam(required = false) List<String> sort) {
+        log.info("REST request to export products as {}", format);
+
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        StreamingResponseBody body = productService.export(toExportRequest(search, filters, sort), exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Creates a new product.
      * 
@@ -101,4 +144,71 @@ public class ProductApiController {
         productService.delete(id);
         return ResponseHandler.success("Product deleted successfully");
     }
+
+    /**
+     * Creates products from a JSON array of create requests. The body is
+     * read as a stream and written in chunks; each item succeeds or fails on
+     * its own.
+     * 
+     * @param body the JSON array
+     * @return counts and per-item errors with HTTP 200
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<SuccessResponse<BulkResponse>> bulkCreate(InputStream body) {
+        log.info("REST request to bulk create products");
+
+        BulkResponse response = productService.bulkCreate(body);
+        return ResponseHandler.success("Bulk create processed", response);
+    }
+
+    /**
+     * Updates products from a JSON array of update requests, each with its
+     * {@code id}.
+     * 
+     * @param body the JSON array
+     * @return counts and per-item errors with HTTP 200
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<SuccessResponse<BulkResponse>> bulkUpdate(InputStream body) {
+        log.info("REST request to bulk update products");
+
+        BulkResponse response = productService.bulkUpdate(body);
+        return ResponseHandler.success("Bulk update processed", response);
+    }
+
+    /**
+     * Soft deletes products from a JSON array of IDs.
+     * 
+     * @param body the JSON array
+     * @return counts and per-item errors with HTTP 200
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<SuccessResponse<BulkResponse>> bulkDelete(InputStream body) {
+        log.info("REST request to bulk delete products");
+
+        BulkResponse response = productService.bulkDelete(body);
+        return ResponseHandler.success("Bulk delete processed", response);
+    }
+
+    private PaginationRequest toExportRequest(String search, String filters, List<String> sort) {
+        PaginationRequest request = PaginationRequest.createDefault();
+        request.setSearch(search);
+
+        if (filters != null && !filters.isBlank()) {
+            try {
+                request.setFilters(jsonMapper.readValue(filters, new TypeReference<Map<String, Object>>() {
+                }));
+            } catch (JacksonException e) {
+                throw new IllegalArgumentException("filters must be a JSON object");
+            }
+        }
+
+        if (sort != null) {
+            for (String order : sort) {
+                String[] parts = order.split(":", 2);
+                request.getSorts().add(new SortRequest(parts[0].trim(), parts.length > 1 ? parts[1].trim() : "asc"));
+            }
+        }
+        return request;
+    }
 }
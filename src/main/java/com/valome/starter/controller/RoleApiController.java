@@ -1,6 +1,5 @@
 package com.valome.starter.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +16,7 @@ import com.valome.starter.dto.role.UserRoleRequest;
 import com.valome.starter.dto.role.RoleCreateRequest;
 import com.valome.starter.dto.role.RoleResponse;
 import com.valome.starter.dto.role.RoleUpdateRequest;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.service.role.RoleService;
 import com.valome.starter.util.ResponseHandler;
@@ -46,9 +46,9 @@ public class RoleApiController {
      * @return page of role responses with HTTP 200
      */
     @PostMapping("/search")
-    public ResponseEntity<SuccessResponse<Page<RoleResponse>>> search(@RequestBody PaginationRequest request) {
+    public ResponseEntity<SuccessResponse<PageResponse<RoleResponse>>> search(@RequestBody PaginationRequest request) {
         log.info("REST request to search roles - request: {}", request);
-        Page<RoleResponse> response = roleService.search(request);
+        PageResponse<RoleResponse> response = roleService.search(request);
         return ResponseHandler.success("Roles retrieved successfully", response);
     }
 
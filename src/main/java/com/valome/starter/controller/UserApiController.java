@@ -1,14 +1,16 @@
 package com.valome.starter.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.valome.starter.dto.auth.ChangePasswordRequest;
 import com.valome.starter.dto.core.SuccessResponse;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.model.User;
 import com.valome.starter.service.user.UserService;
@@ -31,8 +33,14 @@ public class UserApiController {
                 userService.getProfile());
     }
 
+    @PutMapping("/password")
+    public ResponseEntity<SuccessResponse<Object>> changePassword(@RequestBody ChangePasswordRequest request) {
+        userService.changePassword(request);
+        return ResponseHandler.success("Password changed successfully");
+    }
+
     @PostMapping("/search")
-    public ResponseEntity<SuccessResponse<Page<User>>> search(@RequestBody PaginationRequest request) {
+    public ResponseEntity<SuccessResponse<PageResponse<User>>> search(@RequestBody PaginationRequest request) {
         return ResponseHandler.success(
                 "Users retrieved successfully",
                 userService.search(request));
@@ -0,0 +1,9 @@
+package com.valome.starter.dto.auth;
+
+import lombok.Data;
+
+@Data
+public class ChangePasswordRequest {
+    private String currentPassword;
+    private String newPassword;
+}
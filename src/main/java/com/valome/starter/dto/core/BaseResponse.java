@@ -3,8 +3,10 @@ package com.valome.starter.dto.core;
 import java.time.LocalDateTime;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class BaseResponse {
     private String id;
     private String createdBy;
@@ -12,4 +14,17 @@ public class BaseResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean active;
+
+    /**
+     * Audit columns as selected by search projections.
+     */
+    protected BaseResponse(Long id, Long createdBy, Long updatedBy, LocalDateTime createdAt,
+            LocalDateTime updatedAt, Boolean active) {
+        this.id = id != null ? String.valueOf(id) : null;
+        this.createdBy = createdBy != null ? String.valueOf(createdBy) : null;
+        this.updatedBy = updatedBy != null ? String.valueOf(updatedBy) : null;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.active = Boolean.TRUE.equals(active);
+    }
 }
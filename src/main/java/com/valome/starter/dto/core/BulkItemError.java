@@ -0,0 +1,17 @@
+package com.valome.starter.dto.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Why one item of a bulk request was not written. {@code index} is the
+ * item's zero-based position in the request array.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemError {
+    private int index;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.valome.starter.dto.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk request. Items are committed chunk by chunk, so
+ * {@code succeeded} items are written even when others failed.
+ * {@code errorsTruncated} is set when more items failed than are listed.
+ */
+@Data
+@NoArgsConstructor
+public class BulkResponse {
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,18 @@
+package com.valome.starter.dto.product;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * One item of a bulk product update: the product ID and the fields to
+ * change, with the same partial-update rules as a single update.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ProductBulkUpdateRequest extends ProductUpdateRequest {
+
+    @NotNull
+    private Long id;
+
+}
@@ -2,8 +2,10 @@ package com.valome.starter.dto.product;
 
 import com.valome.starter.dto.core.BaseResponse;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 /**
  * DTO for Product responses.
@@ -11,9 +13,22 @@ import lombok.EqualsAndHashCode;
  * Contains all product information including audit fields.
  */
 @Data
+@NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class ProductResponse extends BaseResponse {
     private String name;
     private BigDecimal price;
     private String description;
+
+    /**
+     * Search projection constructor; parameters follow
+     * {@code ProductServiceImpl.SEARCH_PROJECTION}.
+     */
+    public ProductResponse(Long id, Long createdBy, Long updatedBy, LocalDateTime createdAt,
+            LocalDateTime updatedAt, Boolean active, String name, BigDecimal price, String description) {
+        super(id, createdBy, updatedBy, createdAt, updatedAt, active);
+        this.name = name;
+        this.price = price;
+        this.description = description;
+    }
 }
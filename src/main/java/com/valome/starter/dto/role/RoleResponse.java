@@ -1,8 +1,10 @@
 package com.valome.starter.dto.role;
 
 import com.valome.starter.dto.core.BaseResponse;
+import java.time.LocalDateTime;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 /**
  * DTO for Role responses.
@@ -10,7 +12,18 @@ import lombok.EqualsAndHashCode;
  * Contains all role information including audit fields.
  */
 @Data
+@NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class RoleResponse extends BaseResponse {
     private String name;
+
+    /**
+     * Search projection constructor; parameters follow
+     * {@code RoleServiceImpl.SEARCH_PROJECTION}.
+     */
+    public RoleResponse(Long id, Long createdBy, Long updatedBy, LocalDateTime createdAt,
+            LocalDateTime updatedAt, Boolean active, String name) {
+        super(id, createdBy, updatedBy, createdAt, updatedAt, active);
+        this.name = name;
+    }
 }
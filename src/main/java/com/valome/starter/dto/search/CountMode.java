@@ -0,0 +1,31 @@
+package com.valome.starter.dto.search;
+
+/**
+ * How the total of an offset search is computed. The response reports the
+ * mode that actually produced the total.
+ */
+public enum CountMode {
+    /**
+     * Separate {@code COUNT(*)} over the filtered rows.
+     */
+    EXACT,
+
+    /**
+     * No total; the page only reports whether a next page exists.
+     */
+    NONE,
+
+    /**
+     * Row estimate from PostgreSQL planner statistics. Only used for
+     * unfiltered searches; filtered searches, and tables without a partial
+     * index on live rows, fall back to {@link #WINDOW}. Lags until the next
+     * VACUUM or ANALYZE.
+     */
+    ESTIMATED,
+
+    /**
+     * Exact total computed with {@code count(*) over()} in the page query
+     * itself, saving the second round trip.
+     */
+    WINDOW
+}
@@ -1,7 +1,10 @@
 package com.valome.starter.dto.search;
 
+import java.util.Set;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.With;
 
 @Data
 @AllArgsConstructor
@@ -10,4 +13,12 @@ public class FieldConfig {
     private Class<?> type; // String.class, Integer.class, Boolean.class, etc.
     private boolean searchable; // can be used in global search
     private boolean filterable; // can be used as filter
+    @With
+    private SearchMode searchMode; // LIKE, TRIGRAM or FULL_TEXT; only for searchable String fields
+    @With
+    private Set<FilterOperator> operators; // allowed filter operators; null = defaults for the type
+
+    public FieldConfig(String name, Class<?> type, boolean searchable, boolean filterable) {
+        this(name, type, searchable, filterable, SearchMode.LIKE, null);
+    }
 }
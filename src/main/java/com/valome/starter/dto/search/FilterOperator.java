@@ -0,0 +1,90 @@
+package com.valome.starter.dto.search;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Filter operators, written as the keys of a filter object:
+ *
+ * <pre>
+ * "filters": {
+ *   "price": { "between": [10, 50] },
+ *   "createdAt": { "gte": "2025-01-01T00:00:00" },
+ *   "name": { "startsWith": "Pho" },
+ *   "description": { "isNull": false }
+ * }
+ * </pre>
+ *
+ * A plain value keeps its former meaning: {@link #CONTAINS} for String fields,
+ * {@link #EQ} for the rest.
+ */
+public enum FilterOperator {
+    /**
+     * {@code field = value}.
+     */
+    EQ("eq"),
+
+    /**
+     * {@code field IN (values)}.
+     */
+    IN("in"),
+
+    /**
+     * {@code field >= value}.
+     */
+    GTE("gte"),
+
+    /**
+     * {@code field <= value}.
+     */
+    LTE("lte"),
+
+    /**
+     * {@code field BETWEEN first AND second}, both inclusive.
+     */
+    BETWEEN("between"),
+
+    /**
+     * Case-sensitive {@code field LIKE 'prefix%'}; served by a B-tree index
+     * with {@code text_pattern_ops}.
+     */
+    STARTS_WITH("startsWith"),
+
+    /**
+     * {@code field IS NULL} for true, {@code IS NOT NULL} for false.
+     */
+    IS_NULL("isNull"),
+
+    /**
+     * Case-insensitive {@code lower(field) LIKE '%value%'}; only indexable
+     * through a trigram index.
+     */
+    CONTAINS("contains");
+
+    private static final Map<String, FilterOperator> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(FilterOperator::getKey, Function.identity()));
+
+    private final String key;
+
+    FilterOperator(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the operator written as {@code key}, or null if there is none.
+     */
+    public static FilterOperator fromKey(String key) {
+        return BY_KEY.get(key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
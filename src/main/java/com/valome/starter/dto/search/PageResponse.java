@@ -0,0 +1,95 @@
+package com.valome.starter.dto.search;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of search results.
+ *
+ * Serializes like Spring Data's {@code PagedModel} ({@code content} plus
+ * {@code page} metadata) and adds the cursors used by cursor pagination.
+ * Totals are null when the mode did not compute them; {@code countMode}
+ * tells how they were produced. {@code plans} is only present when an
+ * administrator asked for them with {@code "explain": true}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> content;
+    private PageMetadata page;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<QueryPlan> plans;
+
+    public PageResponse(List<T> content, PageMetadata page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageMetadata {
+        private int size;
+        private Integer number;
+        private Long totalElements;
+        private Integer totalPages;
+        private boolean hasNext;
+        private String nextCursor;
+        private String previousCursor;
+        private CountMode countMode;
+    }
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), new PageMetadata(
+                page.getSize(),
+                page.getNumber(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext(),
+                null,
+                null,
+                CountMode.EXACT));
+    }
+
+    /**
+     * Offset page with a total produced by the given count mode.
+     */
+    public static <T> PageResponse<T> of(List<T> content, int number, int size, long total, boolean hasNext,
+            CountMode countMode) {
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / size);
+        return new PageResponse<>(content, new PageMetadata(
+                size, number, total, totalPages, hasNext, null, null, countMode));
+    }
+
+    /**
+     * Offset page without a total.
+     */
+    public static <T> PageResponse<T> ofSlice(List<T> content, int number, int size, boolean hasNext) {
+        return new PageResponse<>(content, new PageMetadata(
+                size, number, null, null, hasNext, null, null, CountMode.NONE));
+    }
+
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, boolean hasNext,
+            String nextCursor, String previousCursor) {
+        return new PageResponse<>(content, new PageMetadata(
+                size, null, null, null, hasNext, nextCursor, previousCursor, CountMode.NONE));
+    }
+
+    /**
+     * Maps the content, keeping the page metadata and plans.
+     */
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new PageResponse<>(mapped, page, plans);
+    }
+}
@@ -0,0 +1,19 @@
+package com.valome.starter.dto.search;
+
+/**
+ * How a search request pages through results.
+ */
+public enum PaginationMode {
+    /**
+     * {@code page}/{@code size} translated to LIMIT/OFFSET. Cost grows with
+     * the page number; capped at a maximum offset.
+     */
+    OFFSET,
+
+    /**
+     * Keyset pagination: the next page starts after the sort keys of the
+     * last row, so every page costs the same. Pages are addressed by opaque
+     * cursors instead of page numbers.
+     */
+    CURSOR
+}
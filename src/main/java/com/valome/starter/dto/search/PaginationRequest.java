@@ -21,7 +21,8 @@ public class PaginationRequest {
     private String search; // global search text (optional)
 
     private Map<String, Object> filters;
-    // { "status": "ACTIVE", "region": "KH", "createdAt": "2025-01-01" }
+    // { "status": "ACTIVE", "price": { "gte": 10, "lte": 50 }, "name": { "startsWith": "Pho" } }
+    // a plain value is CONTAINS for String fields, EQ otherwise; see FilterOperator
 
     private List<SortRequest> sorts;
     // [
@@ -32,6 +33,16 @@ public class PaginationRequest {
     private Integer page;
     private Integer size;
 
+    private PaginationMode mode; // OFFSET (default) or CURSOR
+
+    private String cursor;
+    // opaque nextCursor/previousCursor from the previous response
+
+    private CountMode countMode; // EXACT (default), NONE, ESTIMATED or WINDOW
+
+    private boolean explain;
+    // administrators only: return the EXPLAIN (ANALYZE, BUFFERS) plans in the response
+
     /**
      * Creates a default PaginationRequest with all fields properly initialized.
      * 
@@ -78,4 +89,16 @@ public class PaginationRequest {
     public int getSize() {
         return size != null ? size : DEFAULT_SIZE;
     }
+
+    public CountMode getCountMode() {
+        return countMode != null ? countMode : CountMode.EXACT;
+    }
+
+    /**
+     * Cursor pagination is used when requested explicitly or when a cursor
+     * is given.
+     */
+    public boolean isCursorMode() {
+        return mode == PaginationMode.CURSOR || cursor != null;
+    }
 }
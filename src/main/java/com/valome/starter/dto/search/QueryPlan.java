@@ -0,0 +1,22 @@
+package com.valome.starter.dto.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A statement issued by a search and its {@code EXPLAIN (ANALYZE, BUFFERS)}
+ * output, one line per entry. Bind values are redacted unless configured
+ * otherwise.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryPlan {
+    private String sql;
+    private List<String> binds;
+    private double executionMillis;
+    private List<String> plan;
+}
@@ -0,0 +1,26 @@
+package com.valome.starter.dto.search;
+
+/**
+ * How a searchable field takes part in global search.
+ */
+public enum SearchMode {
+    /**
+     * {@code lower(field) LIKE '%keyword%'} without index support.
+     */
+    LIKE,
+
+    /**
+     * The same LIKE predicate, served by a {@code gin_trgm_ops} index on
+     * {@code lower(field)} created by the migrations.
+     */
+    TRIGRAM,
+
+    /**
+     * Matched through the entity's maintained {@code searchVector} tsvector
+     * column and its GIN index. Matches whole words, the last one also as a
+     * prefix ("lap" finds "Laptop"), but not text inside words as LIKE does
+     * ("top" does not). Results are ranked by relevance when no sort is
+     * requested.
+     */
+    FULL_TEXT
+}
@@ -4,11 +4,17 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.valome.starter.config.JwtProperties;
+import com.valome.starter.constant.JwtConstant;
+import com.valome.starter.service.auth.AuthenticatedUser;
+import com.valome.starter.service.auth.JwtClaims;
 import com.valome.starter.service.auth.JwtService;
+import com.valome.starter.service.auth.TokenRevocationService;
+import com.valome.starter.service.user.UserService;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,32 +26,47 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserService userService;
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws IOException, ServletException {
-        final String authHeader = request.getHeader("Authorization");
+        final String authHeader = request.getHeader(JwtConstant.AUTHORIZATION_HEADER);
 
-        String username = null;
-        String jwtToken = null;
+        if (authHeader != null && authHeader.startsWith(JwtConstant.BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Parse and verify the token once; claims carry subject and expiry
+            JwtClaims claims = jwtService.parseAccessToken(authHeader.substring(JwtConstant.BEARER_PREFIX.length()));
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwtToken = authHeader.substring(7);
-            username = jwtService.extractUsernameFromAccessToken(jwtToken);
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(username);
+            // Revocation is checked in memory; no database query per request
+            if (claims != null && !tokenRevocationService.isRevoked(claims)) {
+                UserDetails userDetails = resolvePrincipal(claims);
 
-            if (jwtService.validateAccessToken(jwtToken, userDetails)) {
-                var authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (userDetails != null && claims.getSubject().equals(userDetails.getUsername())) {
+                    var authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authToken.setDetails(claims);
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * In stateless mode the principal is built from the token claims without
+     * touching the database. Tokens issued before stateless mode was enabled
+     * lack the claims and still fall back to a user lookup, the only one
+     * served from the user cache.
+     */
+    private UserDetails resolvePrincipal(JwtClaims claims) {
+        if (jwtProperties.isStateless() && claims.isSelfContained()) {
+            return AuthenticatedUser.fromClaims(claims);
+        }
+        return userService.findByUsername(claims.getSubject());
+    }
+}
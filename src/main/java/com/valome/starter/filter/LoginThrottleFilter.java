@@ -0,0 +1,57 @@
+package com.valome.starter.filter;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.valome.starter.exception.TooManyRequestsException;
+import com.valome.starter.service.auth.LoginThrottle;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the per-IP budget to every POST under {@code /v1/auth}, before the
+ * request reaches the controller. The per-username budget needs the request
+ * body and is checked by {@code AuthServiceImpl.login}.
+ */
+@Component
+public class LoginThrottleFilter extends OncePerRequestFilter {
+    private static final String AUTH_PATH = "/v1/auth/";
+
+    private final LoginThrottle loginThrottle;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public LoginThrottleFilter(LoginThrottle loginThrottle,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.loginThrottle = loginThrottle;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !request.getServletPath().startsWith(AUTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws IOException, ServletException {
+        try {
+            loginThrottle.checkIp(request.getRemoteAddr());
+        } catch (TooManyRequestsException e) {
+            // Rendered by GlobalExceptionHandler like any controller error
+            handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,40 @@
+package com.valome.starter.jpa.refreshtoken;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.valome.starter.model.RefreshToken;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Atomically marks a live token as used. Returns 0 if the token is
+     * unknown, expired, revoked or was already used.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.usedAt = ?2 WHERE t.tokenId = ?1 "
+            + "AND t.usedAt IS NULL AND t.revokedAt IS NULL AND t.expiresAt > ?2")
+    int markUsed(String tokenId, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = ?2 WHERE t.familyId = ?1 AND t.revokedAt IS NULL")
+    int revokeFamily(String familyId, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = ?2 WHERE t.userId = ?1 AND t.revokedAt IS NULL")
+    int revokeByUserId(Long userId, LocalDateTime now);
+
+    /**
+     * Deletes up to {@code limit} expired tokens in its own transaction, so
+     * a large purge never holds locks on the whole table.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE token_id IN "
+            + "(SELECT token_id FROM refresh_tokens WHERE expires_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
+}
@@ -0,0 +1,34 @@
+package com.valome.starter.jpa.revokedtoken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.valome.starter.model.RevokedToken;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("SELECT t FROM RevokedToken t WHERE t.revokedAt >= ?1 AND t.expiresAt > ?2")
+    List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * Inserts or refreshes an entry; revoking a user again moves the cutoff
+     * forward and extends the retention.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (revocation_key, revoked_at, expires_at) VALUES (?1, ?2, ?3) "
+            + "ON CONFLICT (revocation_key) DO UPDATE SET revoked_at = EXCLUDED.revoked_at, "
+            + "expires_at = GREATEST(revoked_tokens.expires_at, EXCLUDED.expires_at)", nativeQuery = true)
+    int upsert(String revocationKey, LocalDateTime revokedAt, LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM revoked_tokens WHERE revocation_key IN "
+            + "(SELECT revocation_key FROM revoked_tokens WHERE expires_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.valome.starter.model.UserRole;
 import com.valome.starter.model.UserRoleId;
@@ -14,4 +15,7 @@ public interface UserRoleJpaRepository extends JpaRepository<UserRole, UserRoleI
     Optional<UserRole> findByIdUserIdAndIdRoleId(Long userId, Long roleId);
 
     void deleteByIdUserIdAndIdRoleId(Long userId, Long roleId);
+
+    @Query("SELECT ur.user.username FROM UserRole ur WHERE ur.id.roleId = ?1")
+    List<String> findUsernamesByRoleId(Long roleId);
 }
@@ -0,0 +1,13 @@
+package com.valome.starter.model;
+
+/**
+ * Principal whose id is recorded in the {@code created_by},
+ * {@code updated_by} and {@code deleted_by} audit columns.
+ *
+ * Implemented by every principal the security context can hold, so
+ * {@link BaseModel} can read the current user's id without knowing how the
+ * request was authenticated.
+ */
+public interface AuditablePrincipal {
+    Long getId();
+}
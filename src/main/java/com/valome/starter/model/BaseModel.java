@@ -19,8 +19,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Slf4j
 public abstract class BaseModel {
+    /**
+     * Drawn from a sequence per entity ({@code product_seq}, {@code user_seq},
+     * {@code role_seq}; see V4__id_sequences.sql) incrementing by the default
+     * allocation size of 50. Hibernate's pooled optimizer hands out each block
+     * of 50 from memory, so inserts need no round trip for their ids and can
+     * be batched; blocks come from nextval, so nodes never share ids.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id", nullable = false, updatable = false)
     protected Long id;
 
@@ -65,9 +72,11 @@ public abstract class BaseModel {
 
     /**
      * Gets current user ID directly from SecurityContext principal.
-     * Only extracts ID when principal is a User object.
+     * Extracts ID when principal is an {@link AuditablePrincipal}: the User
+     * entity or, in stateless mode, the principal built from token claims.
+     * Also used to audit rows written outside Hibernate.
      */
-    private Long getCurrentUserIdFromContext() {
+    public static Long getCurrentUserIdFromContext() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -75,10 +84,8 @@ public abstract class BaseModel {
                 return null;
             }
 
-            // If principal is a User object, get ID directly
-            if (authentication.getPrincipal() instanceof User) {
-                User user = (User) authentication.getPrincipal();
-                return user.getId();
+            if (authentication.getPrincipal() instanceof AuditablePrincipal principal) {
+                return principal.getId();
             }
         } catch (Exception e) {
             log.debug("Could not get current user ID from SecurityContext for auditing", e);
@@ -1,6 +1,9 @@
 package com.valome.starter.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.SearchMode;
+import com.valome.starter.service.search.SearchSchema;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,13 +34,31 @@ public class Product extends BaseModel {
     @Column(name = "description")
     private String description;
 
+    /**
+     * Full-text document of name and description, generated by PostgreSQL
+     * and GIN-indexed (see V2__search_indexes.sql). Read-only here; only
+     * referenced by search predicates.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @Column(name = "search_vector", insertable = false, updatable = false,
+            columnDefinition = "tsvector GENERATED ALWAYS AS (to_tsvector('simple', "
+                    + "coalesce(name, '') || ' ' || coalesce(description, ''))) STORED")
+    private String searchVector;
+
     /**
      * Field configurations for pagination, filtering, and searching.
-     * All fields are searchable and filterable by default.
+     * All fields are searchable and filterable by default; name and
+     * description are searched through the ranked full-text index.
      */
     public static final List<FieldConfig> PAGINATION_FIELDS = List.of(
-            new FieldConfig("name", String.class, true, true),
+            new FieldConfig("name", String.class, true, true).withSearchMode(SearchMode.FULL_TEXT),
             new FieldConfig("price", BigDecimal.class, true, true),
-            new FieldConfig("description", String.class, true, true),
+            new FieldConfig("description", String.class, true, true).withSearchMode(SearchMode.FULL_TEXT),
             new FieldConfig("createdAt", LocalDateTime.class, false, true));
+
+    /**
+     * PAGINATION_FIELDS compiled for lookups by name; shared by all searches.
+     */
+    public static final SearchSchema<Product> SEARCH_SCHEMA = SearchSchema.compile(Product.class, PAGINATION_FIELDS);
 }
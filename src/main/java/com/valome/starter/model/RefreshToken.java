@@ -0,0 +1,82 @@
+package com.valome.starter.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Issued refresh token, one row per token.
+ *
+ * Tokens issued by successive rotations share a family id. Lookup by token id
+ * is a primary key probe; the family and user indexes make revocation a
+ * single indexed update, and the expiry index serves the purge job.
+ *
+ * Ids are assigned by the application, so the entity reports itself as new
+ * until persisted; otherwise save() would issue a SELECT before every INSERT.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "refresh_tokens_idx_family_id", columnList = "family_id"),
+        @Index(name = "refresh_tokens_idx_user_id", columnList = "user_id"),
+        @Index(name = "refresh_tokens_idx_expires_at", columnList = "expires_at")
+})
+public class RefreshToken implements Persistable<String> {
+    @Id
+    @Column(name = "token_id", nullable = false, updatable = false, length = 36)
+    private String tokenId;
+
+    @Column(name = "family_id", nullable = false, updatable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Transient
+    @JsonIgnore
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
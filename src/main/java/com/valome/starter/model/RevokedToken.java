@@ -0,0 +1,40 @@
+package com.valome.starter.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Revocation list entry.
+ *
+ * The key is either a single access token ({@code t:<jti>}) or every access
+ * token of a user issued up to {@code revokedAt} ({@code u:<username>}).
+ * Rows are kept until {@code expiresAt}, after which every token they could
+ * match has expired on its own.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "revoked_tokens_idx_revoked_at", columnList = "revoked_at"),
+        @Index(name = "revoked_tokens_idx_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+    @Id
+    @Column(name = "revocation_key", nullable = false, updatable = false, length = 300)
+    private String revocationKey;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
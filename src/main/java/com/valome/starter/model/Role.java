@@ -6,6 +6,8 @@ import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
 
 import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.SearchMode;
+import com.valome.starter.service.search.SearchSchema;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -34,6 +36,11 @@ public class Role extends BaseModel implements GrantedAuthority {
     }
 
     public static final List<FieldConfig> PAGINATION_FIELDS = List.of(
-            new FieldConfig("name", String.class, true, true),
+            new FieldConfig("name", String.class, true, true).withSearchMode(SearchMode.TRIGRAM),
             new FieldConfig("createdAt", LocalDateTime.class, false, true));
+
+    /**
+     * PAGINATION_FIELDS compiled for lookups by name; shared by all searches.
+     */
+    public static final SearchSchema<Role> SEARCH_SCHEMA = SearchSchema.compile(Role.class, PAGINATION_FIELDS);
 }
@@ -13,6 +13,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.SearchMode;
+import com.valome.starter.service.search.SearchSchema;
 
 import org.hibernate.annotations.BatchSize;
 
@@ -36,7 +38,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username", name = "users_uk_username")
 })
-public class User extends BaseModel implements UserDetails {
+public class User extends BaseModel implements UserDetails, AuditablePrincipal {
     @Column(name = "username", nullable = false)
     private String username;
 
@@ -93,8 +95,13 @@ public class User extends BaseModel implements UserDetails {
     }
 
     public static final List<FieldConfig> PAGINATION_FIELDS = List.of(
-            new FieldConfig("firstName", String.class, true, true),
-            new FieldConfig("lastName", String.class, true, true),
-            new FieldConfig("email", String.class, true, true),
+            new FieldConfig("firstName", String.class, true, true).withSearchMode(SearchMode.TRIGRAM),
+            new FieldConfig("lastName", String.class, true, true).withSearchMode(SearchMode.TRIGRAM),
+            new FieldConfig("email", String.class, true, true).withSearchMode(SearchMode.TRIGRAM),
             new FieldConfig("createdAt", LocalDateTime.class, false, true));
+
+    /**
+     * PAGINATION_FIELDS compiled for lookups by name; shared by all searches.
+     */
+    public static final SearchSchema<User> SEARCH_SCHEMA = SearchSchema.compile(User.class, PAGINATION_FIELDS);
 }
@@ -6,19 +6,24 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import org.springframework.data.domain.Persistable;
+
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @EqualsAndHashCode
 @Table(name = "user_roles")
-public class UserRole {
+public class UserRole implements Persistable<UserRoleId> {
     @EmbeddedId
     private UserRoleId id;
 
@@ -31,4 +36,24 @@ public class UserRole {
     @MapsId("roleId")
     @JoinColumn(name = "role_id", nullable = false)
     private Role role;
+
+    /**
+     * The id is assigned, so save() cannot tell a new link from a detached
+     * one and would merge, SELECTing it first. New instances are persisted
+     * directly, which also lets their INSERTs be batched.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
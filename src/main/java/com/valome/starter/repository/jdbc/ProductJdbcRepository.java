@@ -0,0 +1,117 @@
+package com.valome.starter.repository.jdbc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import com.valome.starter.dto.product.ProductBulkUpdateRequest;
+import com.valome.starter.dto.product.ProductCreateRequest;
+import com.valome.starter.model.BaseModel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes products in JDBC batches for the bulk endpoints.
+ *
+ * A whole chunk goes out as one batch (rewritten to multi-row INSERTs with
+ * {@code reWriteBatchedInserts}) without loading or hydrating entities;
+ * inserted rows take their ids from the column default on
+ * {@code product_seq}. These methods fill the audit columns the way
+ * {@link BaseModel}'s callbacks do and run in the caller's transaction.
+ * Entities already loaded in the persistence context do not see these
+ * writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+    private static final String INSERT_SQL = "INSERT INTO products "
+            + "(name, price, description, is_active, created_at, created_by, deleted_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, NULL)";
+
+    // Null fields are left unchanged, like ProductMapper.updateEntity
+    private static final String UPDATE_SQL = "UPDATE products SET name = COALESCE(?, name), "
+            + "price = COALESCE(?, price), description = COALESCE(?, description), is_active = ?, "
+            + "updated_at = ?, updated_by = ? WHERE id = ? AND deleted_at IS NULL";
+
+    private static final String SOFT_DELETE_SQL = "UPDATE products SET deleted_at = ?, deleted_by = ? "
+            + "WHERE id = ANY(?) AND deleted_at IS NULL RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the products in one batch.
+     *
+     * @param requests validated create requests
+     */
+    public void insertAll(List<ProductCreateRequest> requests) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long userId = BaseModel.getCurrentUserIdFromContext();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, requests, requests.size(), (ps, request) -> {
+            ps.setString(1, request.getName());
+            ps.setBigDecimal(2, request.getPrice());
+            ps.setString(3, request.getDescription());
+            ps.setBoolean(4, request.isActive());
+            ps.setTimestamp(5, now);
+            ps.setObject(6, userId);
+        });
+    }
+
+    /**
+     * Updates the products in one batch.
+     *
+     * @param requests validated update requests
+     * @return an error per request, in order, null for products updated
+     */
+    public List<String> updateAll(List<ProductBulkUpdateRequest> requests) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long userId = BaseModel.getCurrentUserIdFromContext();
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, requests, requests.size(), (ps, request) -> {
+            ps.setString(1, request.getName());
+            ps.setBigDecimal(2, request.getPrice());
+            ps.setString(3, request.getDescription());
+            ps.setBoolean(4, request.isActive());
+            ps.setTimestamp(5, now);
+            ps.setObject(6, userId);
+            ps.setLong(7, request.getId());
+        });
+
+        List<String> errors = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            // A single batch, so all counts are in counts[0]
+            errors.add(counts[0][i] == 0 ? notFound(requests.get(i).getId()) : null);
+        }
+        return errors;
+    }
+
+    /**
+     * Soft deletes the products in one statement.
+     *
+     * @param ids product IDs
+     * @return an error per ID, in order, null for products deleted
+     */
+    public List<String> softDeleteAll(List<Long> ids) {
+        List<Long> deleted = jdbcTemplate.queryForList(SOFT_DELETE_SQL, Long.class,
+                Timestamp.valueOf(LocalDateTime.now()), BaseModel.getCurrentUserIdFromContext(),
+                new SqlArrayValue("int8", ids.toArray()));
+
+        Set<Long> found = new HashSet<>(deleted);
+        List<String> errors = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            errors.add(found.contains(id) ? null : notFound(id));
+        }
+        return errors;
+    }
+
+    private static String notFound(Long id) {
+        return "Product not found with ID: " + id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.valome.starter.repository.jpa.core;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.valome.starter.model.BaseModel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Base class of every JPA repository (see StarterApplication), implementing
+ * the {@link BaseRepository} operations that derived and annotated queries
+ * cannot express.
+ *
+ * @param <T>  the entity type
+ * @param <ID> the ID type
+ */
+public class BaseJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+    private final EntityManager entityManager;
+
+    public BaseJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @see BaseRepository#softDelete(Specification)
+     */
+    @Transactional
+    public long softDelete(Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(getDomainClass());
+        Root<T> root = update.from(getDomainClass());
+
+        Long deletedBy = BaseModel.getCurrentUserIdFromContext();
+        update.set(root.<LocalDateTime>get("deletedAt"), LocalDateTime.now());
+        if (deletedBy != null) {
+            update.set(root.<Long>get("deletedBy"), deletedBy);
+        } else {
+            update.set(root.<Long>get("deletedBy"), cb.nullLiteral(Long.class));
+        }
+
+        // No CriteriaQuery for an update, as with SimpleJpaRepository.delete(Specification)
+        Predicate live = cb.isNull(root.get("deletedAt"));
+        Predicate matching = spec.toPredicate(root, null, cb);
+        update.where(matching != null ? cb.and(live, matching) : live);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -3,10 +3,16 @@ package com.valome.starter.repository.jpa.core;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.valome.starter.model.BaseModel;
 
 import java.util.List;
 import java.util.Optional;
@@ -71,4 +77,39 @@ public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecific
     @Query("SELECT COUNT(e) FROM #{#entityName} e WHERE e.deletedAt IS NULL")
     @Override
     long count();
+
+    /**
+     * Soft deletes a non-deleted entity with a single UPDATE, without loading
+     * it. Entities already loaded in the persistence context are not updated.
+     * 
+     * @param id        the entity ID
+     * @param deletedBy the deleting user's ID, or null
+     * @return 1 if the entity was deleted, 0 if not found or already deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deletedAt = LOCAL DATETIME, e.deletedBy = :deletedBy "
+            + "WHERE e.id = :id AND e.deletedAt IS NULL")
+    int softDeleteById(@Param("id") ID id, @Param("deletedBy") Long deletedBy);
+
+    /**
+     * Soft deletes a non-deleted entity on behalf of the current user.
+     * 
+     * @param id the entity ID
+     * @return 1 if the entity was deleted, 0 if not found or already deleted
+     */
+    default int softDeleteById(ID id) {
+        return softDeleteById(id, BaseModel.getCurrentUserIdFromContext());
+    }
+
+    /**
+     * Soft deletes every non-deleted entity matching the specification, e.g. a
+     * GenericSpecification built from request filters, with a single UPDATE
+     * on behalf of the current user. Entities already loaded in the
+     * persistence context are not updated.
+     * 
+     * @param spec the entities to delete
+     * @return count of entities deleted
+     */
+    long softDelete(Specification<T> spec);
 }
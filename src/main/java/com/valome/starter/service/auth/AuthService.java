@@ -2,6 +2,7 @@ package com.valome.starter.service.auth;
 
 import com.valome.starter.dto.auth.LoginResponse;
 import com.valome.starter.dto.auth.AuthRequest;
+import com.valome.starter.dto.auth.RefreshTokenRequest;
 import com.valome.starter.dto.auth.RegisterRequest;
 import com.valome.starter.dto.auth.RegisterResponse;
 
@@ -9,4 +10,12 @@ public interface AuthService {
     LoginResponse login(AuthRequest request);
 
     RegisterResponse register(RegisterRequest request);
+
+    LoginResponse refresh(RefreshTokenRequest request);
+
+    /**
+     * Revokes the access token of the current request and, when given, the
+     * family of the presented refresh token.
+     */
+    void logout(RefreshTokenRequest request);
 }
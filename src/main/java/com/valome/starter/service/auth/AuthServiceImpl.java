@@ -2,14 +2,16 @@ package com.valome.starter.service.auth;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.valome.starter.dto.auth.LoginResponse;
 import com.valome.starter.dto.auth.AuthRequest;
+import com.valome.starter.dto.auth.RefreshTokenRequest;
 import com.valome.starter.dto.auth.RegisterRequest;
 import com.valome.starter.dto.auth.RegisterResponse;
+import com.valome.starter.exception.InvalidTokenException;
 import com.valome.starter.model.User;
 import com.valome.starter.service.user.UserService;
 
@@ -19,20 +21,27 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
     private final JwtService jwtService;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginThrottle loginThrottle;
 
     @Override
     public LoginResponse login(AuthRequest request) {
-        authenticationManager.authenticate(
+        // Before any user lookup or password hashing
+        loginThrottle.checkUsername(request.getUsername());
+
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-        String accessToken = jwtService.generateAccessToken(userDetails.getUsername());
-        String refreshToken = jwtService.generateRefreshToken(userDetails.getUsername());
+        // The provider already loaded the user; reuse it instead of looking it up again
+        User user = authentication.getPrincipal() instanceof User principal
+                ? principal
+                : userService.findByUsernameUncached(request.getUsername());
 
-        User user = userService.findByUsername(userDetails.getUsername());
+        String accessToken = jwtService.generateAccessToken(user);
+        String refreshToken = refreshTokenService.issue(user);
 
         LoginResponse response = new LoginResponse();
         response.setAccessToken(accessToken);
@@ -42,6 +51,55 @@ public class AuthServiceImpl implements AuthService {
         return response;
     }
 
+    @Override
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        JwtClaims claims = request.getRefreshToken() != null
+                ? jwtService.parseRefreshToken(request.getRefreshToken())
+                : null;
+        if (claims == null) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+
+        // No password check: the refresh token is the credential
+        String refreshToken = refreshTokenService.rotate(claims);
+
+        // Roles go into the new token, so they must be current
+        User user = userService.findByUsernameUncached(claims.getSubject());
+        if (user == null) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+
+        LoginResponse response = new LoginResponse();
+        response.setAccessToken(jwtService.generateAccessToken(user));
+        response.setRefreshToken(refreshToken);
+        response.setUser(user);
+
+        return response;
+    }
+
+    @Override
+    public void logout(RefreshTokenRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        JwtClaims accessClaims = authentication != null && authentication.getDetails() instanceof JwtClaims claims
+                ? claims
+                : null;
+
+        JwtClaims refreshClaims = request != null && request.getRefreshToken() != null
+                ? jwtService.parseRefreshToken(request.getRefreshToken())
+                : null;
+
+        if (accessClaims == null && refreshClaims == null) {
+            throw new InvalidTokenException("No valid token to revoke");
+        }
+
+        if (accessClaims != null) {
+            tokenRevocationService.revokeToken(accessClaims);
+        }
+        if (refreshClaims != null && refreshClaims.getFamilyId() != null) {
+            refreshTokenService.revokeFamily(refreshClaims.getFamilyId());
+        }
+    }
+
     @Override
     public RegisterResponse register(RegisterRequest request) {
         User user = userService.register(request);
@@ -0,0 +1,48 @@
+package com.valome.starter.service.auth;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.valome.starter.model.AuditablePrincipal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lightweight, immutable principal built from access token claims.
+ *
+ * Used in stateless mode instead of the {@code User} entity so that
+ * authenticating a request needs no database access. Carries only what the
+ * request pipeline needs: id for auditing, username and authorities.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthenticatedUser implements UserDetails, AuditablePrincipal {
+    private final Long id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    public static AuthenticatedUser fromClaims(JwtClaims claims) {
+        List<GrantedAuthority> authorities = claims.getRoles().stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new AuthenticatedUser(claims.getUserId(), claims.getSubject(), authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public @Nullable String getPassword() {
+        return null;
+    }
+}
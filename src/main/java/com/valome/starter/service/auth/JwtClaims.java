@@ -0,0 +1,69 @@
+package com.valome.starter.service.auth;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.valome.starter.constant.JwtConstant;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable view of a verified JWT.
+ *
+ * Produced once per token by {@link JwtVerifier} so callers never have to
+ * parse the same token again to read its subject or expiry. The user id and
+ * roles are only present on access tokens issued in stateless mode; the
+ * family id only on refresh tokens.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JwtClaims {
+    private final String tokenId;
+    private final String subject;
+    private final Date issuedAt;
+    private final Long issuedAtMillis;
+    private final Date expiration;
+    private final Long userId;
+    private final List<String> roles;
+    private final String familyId;
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getIssuedAt(),
+                claims.get(JwtConstant.CLAIM_ISSUED_AT_MILLIS, Long.class),
+                claims.getExpiration(),
+                claims.get(JwtConstant.CLAIM_USER_ID, Long.class),
+                readRoles(claims),
+                claims.get(JwtConstant.CLAIM_FAMILY_ID, String.class));
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Whether the token carries enough information to build a principal
+     * without loading the user.
+     */
+    public boolean isSelfContained() {
+        return userId != null && roles != null;
+    }
+
+    private static List<String> readRoles(Claims claims) {
+        Object value = claims.get(JwtConstant.CLAIM_ROLES);
+        if (!(value instanceof List<?> list)) {
+            return null;
+        }
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+}
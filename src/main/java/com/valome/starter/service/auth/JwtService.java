@@ -1,88 +1,157 @@
 package com.valome.starter.service.auth;
 
 import com.valome.starter.config.JwtProperties;
+import com.valome.starter.constant.JwtConstant;
+import com.valome.starter.constant.TokenType;
+import com.valome.starter.model.User;
+
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
-import java.security.Key;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class JwtService {
     private final JwtProperties jwtProperties;
+    private final JwtVerifier jwtVerifier;
 
     // ------------------ ACCESS TOKEN ------------------
     public String generateAccessToken(String username) {
-        return generateToken(username, jwtProperties.getAccess().getSecret(),
+        return generateToken(username, Map.of(), TokenType.ACCESS, jwtProperties.getAccess().getExpiration());
+    }
+
+    /**
+     * Generates an access token for the given principal. In stateless mode the
+     * user id and role names are embedded so requests can be authenticated
+     * from the token alone.
+     */
+    public String generateAccessToken(UserDetails userDetails) {
+        if (!jwtProperties.isStateless()) {
+            return generateAccessToken(userDetails.getUsername());
+        }
+
+        Map<String, Object> claims = Map.of(
+                JwtConstant.CLAIM_USER_ID, resolveUserId(userDetails),
+                JwtConstant.CLAIM_ROLES, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList());
+        return generateToken(userDetails.getUsername(), claims, TokenType.ACCESS,
                 jwtProperties.getAccess().getExpiration());
     }
 
+    /**
+     * Parses and verifies an access token once.
+     *
+     * @param token the compact JWT
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public JwtClaims parseAccessToken(String token) {
+        return parseToken(token, TokenType.ACCESS);
+    }
+
     public boolean validateAccessToken(String token, UserDetails userDetails) {
-        return validateToken(token, jwtProperties.getAccess().getSecret(), userDetails);
+        return validateToken(parseAccessToken(token), userDetails);
     }
 
     public String extractUsernameFromAccessToken(String token) {
-        return extractUsername(token, jwtProperties.getAccess().getSecret());
+        return extractUsername(parseAccessToken(token));
     }
 
     // ------------------ REFRESH TOKEN ------------------
-    public String generateRefreshToken(String username) {
-        return generateToken(username, jwtProperties.getRefresh().getSecret(),
-                jwtProperties.getRefresh().getExpiration());
+    /**
+     * Generates a refresh token identified by {@code tokenId} (the {@code jti})
+     * within a rotation family.
+     */
+    public String generateRefreshToken(String username, String tokenId, String familyId, Date expiresAt) {
+        long now = System.currentTimeMillis();
+        return builder(TokenType.REFRESH)
+                .setId(tokenId)
+                .claim(JwtConstant.CLAIM_FAMILY_ID, familyId)
+                .setSubject(username)
+                .setIssuedAt(new Date(now))
+                .claim(JwtConstant.CLAIM_ISSUED_AT_MILLIS, now)
+                .setExpiration(expiresAt)
+                .signWith(jwtVerifier.signingKey(TokenType.REFRESH), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Parses and verifies a refresh token once.
+     *
+     * @param token the compact JWT
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public JwtClaims parseRefreshToken(String token) {
+        return parseToken(token, TokenType.REFRESH);
     }
 
     public boolean validateRefreshToken(String token, UserDetails userDetails) {
-        return validateToken(token, jwtProperties.getRefresh().getSecret(), userDetails);
+        return validateToken(parseRefreshToken(token), userDetails);
     }
 
     public String extractUsernameFromRefreshToken(String token) {
-        return extractUsername(token, jwtProperties.getRefresh().getSecret());
+        return extractUsername(parseRefreshToken(token));
     }
 
     // ------------------ PRIVATE METHODS ------------------
-    private String generateToken(String username, String secret, long expirationMillis) {
-        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-        return Jwts.builder()
+    private String generateToken(String username, Map<String, Object> claims, TokenType type,
+            long expirationMillis) {
+        long now = System.currentTimeMillis();
+        return builder(type)
+                .addClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expirationMillis))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .claim(JwtConstant.CLAIM_ISSUED_AT_MILLIS, now)
+                .setExpiration(new Date(now + expirationMillis))
+                .signWith(jwtVerifier.signingKey(type), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private boolean validateToken(String token, String secret, UserDetails userDetails) {
-        final String username = extractUsername(token, secret);
-        final boolean isExpired = isTokenExpired(token, secret);
-        final boolean isEqualUsername = username.equals(userDetails.getUsername());
+    private JwtBuilder builder(TokenType type) {
+        JwtBuilder builder = Jwts.builder();
+        String keyId = jwtVerifier.signingKeyId(type);
+        if (keyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyId);
+        }
+        return builder;
+    }
 
-        return isEqualUsername && !isExpired;
+    private Long resolveUserId(UserDetails userDetails) {
+        if (userDetails instanceof User user) {
+            return user.getId();
+        }
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
+        }
+        throw new IllegalArgumentException("Cannot resolve user id for principal " + userDetails.getUsername());
     }
 
-    private String extractUsername(String token, String secret) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    private JwtClaims parseToken(String token, TokenType type) {
+        try {
+            return jwtVerifier.verify(type, token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected {} token: {}", type, e.getMessage());
+            return null;
+        }
     }
 
-    private boolean isTokenExpired(String token, String secret) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+    private boolean validateToken(JwtClaims claims, UserDetails userDetails) {
+        return claims != null
+                && !claims.isExpired()
+                && claims.getSubject().equals(userDetails.getUsername());
+    }
 
-        return expiration.before(new Date());
+    private String extractUsername(JwtClaims claims) {
+        return claims != null ? claims.getSubject() : null;
     }
 }
@@ -0,0 +1,167 @@
+package com.valome.starter.service.auth;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.valome.starter.config.JwtProperties;
+import com.valome.starter.constant.TokenType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verifies JWTs with keys and parsers derived once at startup.
+ *
+ * Decoding the Base64 secrets, deriving the HMAC keys and building a
+ * {@link JwtParser} are done per token type when the bean is created. Parsers
+ * are immutable and thread-safe, so every request reuses them and each token
+ * is parsed and verified exactly once, against the key its {@code kid}
+ * header selects from the {@link KeyRing}.
+ *
+ * Verified access tokens are also cached by SHA-256 digest of the compact
+ * token, so a client reusing its token skips signature verification and JSON
+ * parsing. An entry lives no longer than the token's {@code exp}, nor past
+ * the {@code verifyUntil} of the key that signed it, so retiring a key also
+ * rejects its cached tokens.
+ */
+@Component
+@Slf4j
+public class JwtVerifier {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final Map<TokenType, KeyRing> keyRings = new EnumMap<>(TokenType.class);
+    private final Map<TokenType, JwtParser> parsers = new EnumMap<>(TokenType.class);
+    private final Cache<TokenDigest, VerifiedToken> accessTokenCache;
+
+    public JwtVerifier(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        register(TokenType.ACCESS, jwtProperties.getAccess());
+        register(TokenType.REFRESH, jwtProperties.getRefresh());
+
+        JwtProperties.Cache cacheProperties = jwtProperties.getCache();
+        if (cacheProperties.isEnabled()) {
+            accessTokenCache = Caffeine.newBuilder()
+                    .maximumSize(cacheProperties.getMaximumSize())
+                    .expireAfter(Expiry.<TokenDigest, VerifiedToken>creating(
+                            (digest, verified) -> verified.timeToExpiry()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, accessTokenCache, "jwt-access-tokens");
+        } else {
+            accessTokenCache = null;
+        }
+    }
+
+    /**
+     * Parses and verifies a token of the given type. Access tokens are served
+     * from the verified-token cache when present.
+     *
+     * @param type  the token type, selecting key and parser
+     * @param token the compact JWT
+     * @return the verified claims
+     * @throws JwtException if the signature is invalid, the token is malformed
+     *                      or it has expired
+     */
+    public JwtClaims verify(TokenType type, String token) {
+        if (type != TokenType.ACCESS || accessTokenCache == null) {
+            return parse(type, token);
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken cached = accessTokenCache.getIfPresent(digest);
+        if (cached != null && cached.isValid()) {
+            return cached.claims();
+        }
+
+        // Parse outside the cache so invalid tokens are never stored
+        Jws<Claims> jws = parsers.get(type).parseClaimsJws(token);
+        JwtClaims claims = JwtClaims.from(jws.getBody());
+        Instant keyVerifyUntil = keyRings.get(type).verifyUntil(jws.getHeader().getKeyId());
+        accessTokenCache.put(digest, VerifiedToken.of(claims, keyVerifyUntil));
+        return claims;
+    }
+
+    /**
+     * Returns the precomputed key that signs new tokens of the given type.
+     */
+    public Key signingKey(TokenType type) {
+        return keyRings.get(type).signingKey();
+    }
+
+    /**
+     * Returns the {@code kid} of the signing key, or null when tokens are
+     * signed with the legacy secret.
+     */
+    public String signingKeyId(TokenType type) {
+        return keyRings.get(type).signingKeyId();
+    }
+
+    private JwtClaims parse(TokenType type, String token) {
+        return JwtClaims.from(parsers.get(type).parseClaimsJws(token).getBody());
+    }
+
+    private void register(TokenType type, JwtProperties.Token token) {
+        KeyRing keyRing = new KeyRing(token);
+        keyRings.put(type, keyRing);
+        parsers.put(type, Jwts.parserBuilder().setSigningKeyResolver(keyRing).build());
+        log.debug("Initialized {} token verifier signing with key {}", type, keyRing.signingKeyId());
+    }
+
+    /**
+     * Verified claims and the instant they stop being valid: the token's
+     * {@code exp} or its key's {@code verifyUntil}, whichever comes first.
+     */
+    private record VerifiedToken(JwtClaims claims, long validUntilMillis) {
+        static VerifiedToken of(JwtClaims claims, Instant keyVerifyUntil) {
+            // Without exp the entry is never served
+            long validUntil = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0;
+            if (keyVerifyUntil != null) {
+                validUntil = Math.min(validUntil, keyVerifyUntil.toEpochMilli());
+            }
+            return new VerifiedToken(claims, validUntil);
+        }
+
+        boolean isValid() {
+            return System.currentTimeMillis() < validUntilMillis;
+        }
+
+        Duration timeToExpiry() {
+            return Duration.ofMillis(Math.max(0, validUntilMillis - System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * SHA-256 of the compact token held as four longs: 32 bytes per key, no
+     * array indirection, cheap equals and hashCode.
+     */
+    private record TokenDigest(long a, long b, long c, long d) {
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
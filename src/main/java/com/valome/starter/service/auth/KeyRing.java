@@ -0,0 +1,101 @@
+package com.valome.starter.service.auth;
+
+import java.security.Key;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.valome.starter.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * Signing and verification keys of one token type, derived once at startup.
+ *
+ * Verification selects the key by the token's {@code kid} header with a
+ * single map lookup, so a ring of several keys costs no extra verification
+ * attempts. Tokens without a {@code kid} were issued before rotation was
+ * configured and are checked against the legacy secret.
+ */
+class KeyRing extends SigningKeyResolverAdapter {
+    private final Map<String, VerificationKey> keys = new HashMap<>();
+    private final VerificationKey legacyKey;
+    private final String signingKeyId;
+    private final Key signingKey;
+
+    private record VerificationKey(Key key, Instant verifyUntil) {
+    }
+
+    KeyRing(JwtProperties.Token token) {
+        for (JwtProperties.SigningKey signingKey : token.getKeys()) {
+            if (signingKey.getId() == null || signingKey.getSecret() == null) {
+                throw new IllegalStateException("JWT signing keys require an id and a secret");
+            }
+            if (keys.put(signingKey.getId(),
+                    new VerificationKey(derive(signingKey.getSecret()), signingKey.getVerifyUntil())) != null) {
+                throw new IllegalStateException("Duplicate JWT signing key id: " + signingKey.getId());
+            }
+        }
+
+        this.legacyKey = token.getSecret() != null ? new VerificationKey(derive(token.getSecret()), null) : null;
+        this.signingKeyId = token.getSigningKeyId();
+
+        if (signingKeyId != null) {
+            VerificationKey key = keys.get(signingKeyId);
+            if (key == null) {
+                throw new IllegalStateException("Unknown JWT signing key id: " + signingKeyId);
+            }
+            this.signingKey = key.key();
+        } else if (legacyKey != null) {
+            this.signingKey = legacyKey.key();
+        } else {
+            throw new IllegalStateException("JWT secret or signing key id is required");
+        }
+    }
+
+    /**
+     * Returns the key id to put in the header of new tokens, or null when
+     * signing with the legacy secret.
+     */
+    String signingKeyId() {
+        return signingKeyId;
+    }
+
+    Key signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Returns when tokens signed with the given key stop verifying, or null
+     * if never.
+     *
+     * @param keyId the token's {@code kid}, null for the legacy secret
+     */
+    Instant verifyUntil(String keyId) {
+        VerificationKey key = keyId != null ? keys.get(keyId) : legacyKey;
+        return key != null ? key.verifyUntil() : null;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        VerificationKey key = keyId != null ? keys.get(keyId) : legacyKey;
+
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + keyId);
+        }
+        if (key.verifyUntil() != null && Instant.now().isAfter(key.verifyUntil())) {
+            throw new SignatureException("Signing key retired: " + keyId);
+        }
+        return key.key();
+    }
+
+    private static Key derive(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
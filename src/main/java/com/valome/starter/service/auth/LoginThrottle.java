@@ -0,0 +1,71 @@
+package com.valome.starter.service.auth;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.valome.starter.config.ThrottleProperties;
+import com.valome.starter.exception.TooManyRequestsException;
+import com.valome.starter.util.RateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Throttles authentication attempts per client IP and per username.
+ *
+ * Both checks run before any user lookup or password hashing, so rejected
+ * attempts cost a cache lookup and a compare-and-set. Rejections are counted
+ * in {@code auth.throttle.rejected}, tagged by key type.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+    private final boolean enabled;
+    private final RateLimiter ipLimiter;
+    private final RateLimiter usernameLimiter;
+    private final Counter ipRejected;
+    private final Counter usernameRejected;
+
+    public LoginThrottle(ThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.ipLimiter = new RateLimiter(properties.getIp().getCapacity(), properties.getIp().getPeriod(),
+                properties.getMaximumKeys());
+        this.usernameLimiter = new RateLimiter(properties.getUsername().getCapacity(),
+                properties.getUsername().getPeriod(), properties.getMaximumKeys());
+        this.ipRejected = Counter.builder("auth.throttle.rejected").tag("key", "ip").register(meterRegistry);
+        this.usernameRejected = Counter.builder("auth.throttle.rejected").tag("key", "username")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws TooManyRequestsException if the client exceeded its budget
+     */
+    public void checkIp(String ip) {
+        if (!enabled || ip == null) {
+            return;
+        }
+        Duration retryAfter = ipLimiter.tryAcquire(ip);
+        if (!retryAfter.isZero()) {
+            ipRejected.increment();
+            log.debug("Throttled authentication attempt from {}", ip);
+            throw new TooManyRequestsException("Too many attempts, please retry later", retryAfter);
+        }
+    }
+
+    /**
+     * @throws TooManyRequestsException if the username exceeded its budget
+     */
+    public void checkUsername(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        Duration retryAfter = usernameLimiter.tryAcquire(username);
+        if (!retryAfter.isZero()) {
+            usernameRejected.increment();
+            log.debug("Throttled login attempt for {}", username);
+            throw new TooManyRequestsException("Too many attempts, please retry later", retryAfter);
+        }
+    }
+}
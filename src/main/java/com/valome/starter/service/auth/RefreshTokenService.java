@@ -0,0 +1,46 @@
+package com.valome.starter.service.auth;
+
+import com.valome.starter.exception.InvalidTokenException;
+import com.valome.starter.model.User;
+
+/**
+ * Issues, rotates and revokes refresh tokens.
+ *
+ * Every login starts a token family. Each refresh consumes the presented
+ * token and issues the next one in the same family; presenting a token that
+ * was already consumed is treated as theft and revokes the whole family.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Starts a new token family for the user and returns its first token.
+     *
+     * @param user the authenticated user
+     * @return the signed refresh token
+     */
+    String issue(User user);
+
+    /**
+     * Consumes a verified refresh token and returns its successor.
+     *
+     * @param claims the verified refresh token claims
+     * @return the next signed refresh token in the same family
+     * @throws InvalidTokenException if the token is unknown, expired, revoked
+     *                               or was already used
+     */
+    String rotate(JwtClaims claims);
+
+    /**
+     * Revokes every token of a family.
+     *
+     * @param familyId the family id
+     */
+    void revokeFamily(String familyId);
+
+    /**
+     * Revokes every live refresh token of a user.
+     *
+     * @param userId the user ID
+     */
+    void revokeAllForUser(Long userId);
+}
@@ -0,0 +1,113 @@
+package com.valome.starter.service.auth;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.valome.starter.config.JwtProperties;
+import com.valome.starter.exception.InvalidTokenException;
+import com.valome.starter.jpa.refreshtoken.RefreshTokenJpaRepository;
+import com.valome.starter.model.RefreshToken;
+import com.valome.starter.model.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of RefreshTokenService backed by the refresh_tokens table.
+ *
+ * Rotation is a conditional update on the primary key, so two concurrent
+ * refreshes with the same token cannot both succeed.
+ */
+@Service
+@Transactional(noRollbackFor = InvalidTokenException.class)
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final JwtService jwtService;
+    private final JwtProperties jwtProperties;
+
+    @Override
+    public String issue(User user) {
+        return create(user.getId(), user.getUsername(), UUID.randomUUID().toString());
+    }
+
+    @Override
+    public String rotate(JwtClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId == null || claims.getFamilyId() == null) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenJpaRepository.markUsed(tokenId, now) == 1) {
+            RefreshToken current = refreshTokenJpaRepository.findById(tokenId)
+                    .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+            return create(current.getUserId(), claims.getSubject(), current.getFamilyId());
+        }
+
+        RefreshToken existing = refreshTokenJpaRepository.findById(tokenId).orElse(null);
+        if (existing != null && existing.getUsedAt() != null) {
+            // A consumed token was presented again: assume it leaked
+            refreshTokenJpaRepository.revokeFamily(existing.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, revoked family {}",
+                    claims.getSubject(), existing.getFamilyId());
+        }
+
+        throw new InvalidTokenException("Invalid refresh token");
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        refreshTokenJpaRepository.revokeFamily(familyId, LocalDateTime.now());
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        refreshTokenJpaRepository.revokeByUserId(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Deletes expired tokens in small batches, each in its own transaction.
+     */
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 0 * * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenJpaRepository.deleteExpiredBatch(now, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Purged {} expired refresh token(s)", total);
+        }
+    }
+
+    private String create(Long userId, String username, String familyId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusNanos(jwtProperties.getRefresh().getExpiration() * 1_000_000L);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenId(UUID.randomUUID().toString());
+        token.setFamilyId(familyId);
+        token.setUserId(userId);
+        token.setCreatedAt(now);
+        token.setExpiresAt(expiresAt);
+        refreshTokenJpaRepository.save(token);
+
+        return jwtService.generateRefreshToken(username, token.getTokenId(), familyId,
+                Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+}
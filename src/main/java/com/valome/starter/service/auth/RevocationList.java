@@ -0,0 +1,103 @@
+package com.valome.starter.service.auth;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.valome.starter.util.BloomFilter;
+
+/**
+ * In-memory mirror of the revocation table.
+ *
+ * Entries are grouped into Bloom filters by expiry window. A lookup tests the
+ * live filters first, which answers the common "not revoked" case with a few
+ * bit reads and no locking; only Bloom positives consult the exact map.
+ * Once every entry of a window has expired the whole filter is dropped, so
+ * the structure shrinks as tokens expire without ever being rebuilt.
+ */
+class RevocationList {
+    private final long windowMillis;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Entry> exact = new ConcurrentHashMap<>();
+    private volatile Window[] windows = new Window[0];
+
+    record Entry(long revokedAtMillis, long expiresAtMillis) {
+    }
+
+    private record Window(long index, long endMillis, BloomFilter filter) {
+    }
+
+    RevocationList(long windowMillis, int expectedInsertions, double falsePositiveRate) {
+        this.windowMillis = Math.max(1, windowMillis);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Returns the entry for the key, or null if it is not revoked.
+     */
+    Entry find(String key, long nowMillis) {
+        for (Window window : windows) {
+            if (window.endMillis() > nowMillis && window.filter().mightContain(key)) {
+                Entry entry = exact.get(key);
+                return entry != null && entry.expiresAtMillis() > nowMillis ? entry : null;
+            }
+        }
+        return null;
+    }
+
+    void add(String key, long revokedAtMillis, long expiresAtMillis) {
+        exact.merge(key, new Entry(revokedAtMillis, expiresAtMillis), (current, added) -> new Entry(
+                Math.max(current.revokedAtMillis(), added.revokedAtMillis()),
+                Math.max(current.expiresAtMillis(), added.expiresAtMillis())));
+        windowFor(expiresAtMillis).filter().put(key);
+    }
+
+    /**
+     * Drops expired entries and every window whose entries have all expired.
+     */
+    synchronized void expire(long nowMillis) {
+        exact.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+
+        Window[] current = windows;
+        Window[] live = Arrays.stream(current)
+                .filter(window -> window.endMillis() > nowMillis)
+                .toArray(Window[]::new);
+        if (live.length != current.length) {
+            windows = live;
+        }
+    }
+
+    int size() {
+        return exact.size();
+    }
+
+    private Window windowFor(long expiresAtMillis) {
+        long index = expiresAtMillis / windowMillis;
+        for (Window window : windows) {
+            if (window.index() == index) {
+                return window;
+            }
+        }
+        return createWindow(index);
+    }
+
+    private synchronized Window createWindow(long index) {
+        for (Window window : windows) {
+            if (window.index() == index) {
+                return window;
+            }
+        }
+
+        Window window = new Window(index, (index + 1) * windowMillis,
+                new BloomFilter(expectedInsertions, falsePositiveRate));
+        List<Window> updated = new ArrayList<>(Arrays.asList(windows));
+        updated.add(window);
+        windows = updated.toArray(Window[]::new);
+        return window;
+    }
+}
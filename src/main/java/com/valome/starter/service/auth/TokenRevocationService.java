@@ -0,0 +1,33 @@
+package com.valome.starter.service.auth;
+
+/**
+ * Revocation of access tokens before their natural expiry.
+ *
+ * Revocations are stored in the database and mirrored in memory, so checking
+ * a token on every request never queries the database.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes a single access token, e.g. on logout.
+     *
+     * @param claims the verified access token claims
+     */
+    void revokeToken(JwtClaims claims);
+
+    /**
+     * Revokes every access token issued to the user so far, e.g. after a
+     * password change or role removal.
+     *
+     * @param username the username
+     */
+    void revokeAllForUser(String username);
+
+    /**
+     * Checks a verified access token against the revocation list.
+     *
+     * @param claims the verified access token claims
+     * @return true if the token has been revoked
+     */
+    boolean isRevoked(JwtClaims claims);
+}
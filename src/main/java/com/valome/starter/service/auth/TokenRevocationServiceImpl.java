@@ -0,0 +1,146 @@
+package com.valome.starter.service.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.valome.starter.config.JwtProperties;
+import com.valome.starter.jpa.revokedtoken.RevokedTokenJpaRepository;
+import com.valome.starter.model.RevokedToken;
+import com.valome.starter.util.TransactionUtils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of TokenRevocationService backed by the revoked_tokens
+ * table and an in-memory {@link RevocationList}.
+ *
+ * Each node loads the live entries at startup and then polls for rows
+ * revoked since its last sync, so revocations made on other nodes are picked
+ * up within one sync interval. A revocation made inside a transaction takes
+ * effect locally when it commits and never if it rolls back.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+    private static final String TOKEN_KEY_PREFIX = "t:";
+    private static final String USER_KEY_PREFIX = "u:";
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final RevokedTokenJpaRepository revokedTokenJpaRepository;
+    private final long accessExpirationMillis;
+    private final RevocationList revocationList;
+
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationServiceImpl(RevokedTokenJpaRepository revokedTokenJpaRepository,
+            JwtProperties jwtProperties) {
+        this.revokedTokenJpaRepository = revokedTokenJpaRepository;
+        this.accessExpirationMillis = jwtProperties.getAccess().getExpiration();
+
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        // Four windows span one access token lifetime
+        this.revocationList = new RevocationList(accessExpirationMillis / 4,
+                revocation.getExpectedInsertions(), revocation.getFalsePositiveRate());
+    }
+
+    @PostConstruct
+    void load() {
+        sync();
+        log.info("Loaded {} token revocation(s)", revocationList.size());
+    }
+
+    @Override
+    public void revokeToken(JwtClaims claims) {
+        if (claims.getTokenId() == null) {
+            // Tokens issued before jti was added can only be revoked per user
+            revokeAllForUser(claims.getSubject());
+            return;
+        }
+        revoke(TOKEN_KEY_PREFIX + claims.getTokenId(), System.currentTimeMillis(),
+                claims.getExpiration().getTime());
+    }
+
+    @Override
+    public void revokeAllForUser(String username) {
+        long now = System.currentTimeMillis();
+        revoke(USER_KEY_PREFIX + username, now, now + accessExpirationMillis);
+    }
+
+    @Override
+    public boolean isRevoked(JwtClaims claims) {
+        long now = System.currentTimeMillis();
+
+        if (claims.getTokenId() != null
+                && revocationList.find(TOKEN_KEY_PREFIX + claims.getTokenId(), now) != null) {
+            return true;
+        }
+
+        RevocationList.Entry userEntry = revocationList.find(USER_KEY_PREFIX + claims.getSubject(), now);
+        if (userEntry == null) {
+            return false;
+        }
+        if (claims.getIssuedAtMillis() != null) {
+            // Tokens issued after the revocation, even within the same second, stay valid
+            return claims.getIssuedAtMillis() < userEntry.revokedAtMillis();
+        }
+        // Tokens issued before iatms was added only carry iat, in seconds
+        return claims.getIssuedAt() != null
+                && claims.getIssuedAt().getTime() <= userEntry.revokedAtMillis();
+    }
+
+    /**
+     * Pulls revocations made by other nodes and drops expired entries.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:10000}",
+            initialDelayString = "${jwt.revocation.sync-interval:10000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // Overlap so rows committed late by another node are not missed
+        LocalDateTime since = lastSync == null ? EPOCH : lastSync.minus(SYNC_OVERLAP);
+
+        for (RevokedToken token : revokedTokenJpaRepository.findRevokedSince(since, now)) {
+            revocationList.add(token.getRevocationKey(), toMillis(token.getRevokedAt()),
+                    toMillis(token.getExpiresAt()));
+        }
+
+        revocationList.expire(System.currentTimeMillis());
+        lastSync = now;
+    }
+
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 30 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = revokedTokenJpaRepository.deleteExpiredBatch(now, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Purged {} expired token revocation(s)", total);
+        }
+    }
+
+    private void revoke(String key, long revokedAtMillis, long expiresAtMillis) {
+        revokedTokenJpaRepository.upsert(key, toLocalDateTime(revokedAtMillis), toLocalDateTime(expiresAtMillis));
+        // Only once the row is committed, as other nodes will only see it then
+        TransactionUtils.afterCommit(() -> revocationList.add(key, revokedAtMillis, expiresAtMillis));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -1,5 +1,7 @@
 package com.valome.starter.service.auth;
 
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,7 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailServiceImpl implements UserDetailsService {
+public class UserDetailServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService service;
 
@@ -21,6 +23,24 @@ public class UserDetailServiceImpl implements UserDetailsService {
     public User loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", username);
 
-        return service.findByUsername(username);
+        // Checks the password; a cached copy may hold a changed one
+        User user = service.findByUsernameUncached(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+
+        return user;
+    }
+
+    /**
+     * Called by the authentication provider after a successful login when the
+     * stored hash uses a weaker cost factor than the configured one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("Upgrading password hash for user: {}", user.getUsername());
+
+        User updated = service.updatePasswordHash(user.getUsername(), newPassword);
+        return updated != null ? updated : user;
     }
 }
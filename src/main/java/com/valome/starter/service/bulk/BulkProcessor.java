@@ -0,0 +1,181 @@
+package com.valome.starter.service.bulk;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.valome.starter.config.BulkProperties;
+import com.valome.starter.dto.core.BulkItemError;
+import com.valome.starter.dto.core.BulkResponse;
+import com.valome.starter.util.JsonArrayReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs bulk requests: streams the items of a JSON array, validates each one
+ * and hands valid items to a {@link ChunkWriter} in chunks.
+ *
+ * Every chunk is written in its own transaction, so memory stays bounded by
+ * the chunk size and items already committed stay written if a later chunk
+ * or the rest of the body fails. When a chunk fails as a whole, e.g. on a
+ * constraint violation, it is rolled back and its items are retried one by
+ * one so the failure is reported against the item that caused it.
+ */
+@Component
+@Slf4j
+public class BulkProcessor {
+    private final BulkProperties properties;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Writes a chunk of valid items in the current transaction.
+     */
+    @FunctionalInterface
+    public interface ChunkWriter<T> {
+        /**
+         * @return an error per item, in order, null for items written
+         * @throws DataAccessException if the chunk cannot be written
+         */
+        List<String> write(List<T> items);
+    }
+
+    public BulkProcessor(BulkProperties properties, JsonMapper jsonMapper, Validator validator,
+            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Reads, validates and writes every item of the body. Must not be called
+     * inside a transaction, or chunks would not commit on their own.
+     *
+     * @param body   a JSON array of items
+     * @param type   the item type
+     * @param writer writes one chunk
+     * @return counts and per-item errors
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    public <T> BulkResponse process(InputStream body, Class<T> type, ChunkWriter<T> writer) {
+        BulkResponse response = new BulkResponse();
+        List<JsonArrayReader.Element<T>> chunk = new ArrayList<>(properties.getChunkSize());
+
+        try (JsonArrayReader<T> reader = new JsonArrayReader<>(jsonMapper, body, type)) {
+            try {
+                while (reader.hasNext()) {
+                    if (response.getProcessed() >= properties.getMaxItems()) {
+                        report(response, reader.getIndex(), String.format(
+                                "Bulk requests are limited to %d items; the remaining items were not processed",
+                                properties.getMaxItems()));
+                        break;
+                    }
+
+                    JsonArrayReader.Element<T> element = reader.next();
+                    response.setProcessed(response.getProcessed() + 1);
+                    String error = element.error() != null ? element.error() : validate(element.value());
+                    if (error != null) {
+                        fail(response, element.index(), error);
+                        continue;
+                    }
+
+                    chunk.add(element);
+                    if (chunk.size() == properties.getChunkSize()) {
+                        flush(chunk, writer, response);
+                    }
+                }
+            } catch (JacksonException e) {
+                report(response, reader.getIndex(), "Malformed JSON: " + e.getOriginalMessage()
+                        + "; the remaining items were not processed");
+            }
+        }
+
+        flush(chunk, writer, response);
+        log.info("Bulk {} request: {} processed, {} succeeded, {} failed", type.getSimpleName(),
+                response.getProcessed(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private <T> void flush(List<JsonArrayReader.Element<T>> chunk, ChunkWriter<T> writer, BulkResponse response) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<T> items = chunk.stream().map(JsonArrayReader.Element::value).toList();
+        try {
+            List<String> errors = transactionTemplate.execute(status -> writer.write(items));
+            record(chunk, errors, response);
+        } catch (DataAccessException e) {
+            log.debug("Bulk chunk of {} items failed, retrying item by item", chunk.size(), e);
+            for (JsonArrayReader.Element<T> element : chunk) {
+                writeOne(element, writer, response);
+            }
+        }
+        chunk.clear();
+    }
+
+    private <T> void writeOne(JsonArrayReader.Element<T> element, ChunkWriter<T> writer, BulkResponse response) {
+        try {
+            List<String> errors = transactionTemplate.execute(status -> writer.write(List.of(element.value())));
+            record(List.of(element), errors, response);
+        } catch (DataAccessException e) {
+            fail(response, element.index(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private <T> void record(List<JsonArrayReader.Element<T>> chunk, List<String> errors, BulkResponse response) {
+        for (int i = 0; i < chunk.size(); i++) {
+            String error = errors != null ? errors.get(i) : null;
+            if (error != null) {
+                fail(response, chunk.get(i).index(), error);
+            } else {
+                response.setSucceeded(response.getSucceeded() + 1);
+            }
+        }
+    }
+
+    private <T> String validate(T item) {
+        if (item == null) {
+            return "Item must not be null";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void fail(BulkResponse response, int index, String message) {
+        response.setFailed(response.getFailed() + 1);
+        report(response, index, message);
+    }
+
+    /**
+     * Lists an error without counting a failed item, e.g. where reading
+     * stopped.
+     */
+    private void report(BulkResponse response, int index, String message) {
+        if (response.getErrors().size() < properties.getMaxReportedErrors()) {
+            response.getErrors().add(new BulkItemError(index, message));
+        } else {
+            response.setErrorsTruncated(true);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.valome.starter.service.product;
 
-import org.springframework.data.domain.Page;
+import java.io.InputStream;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.valome.starter.dto.core.BulkResponse;
 import com.valome.starter.dto.product.ProductCreateRequest;
 import com.valome.starter.dto.product.ProductResponse;
 import com.valome.starter.dto.product.ProductUpdateRequest;
+import com.valome.starter.dto.search.ExportFormat;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 
 /**
@@ -21,7 +26,17 @@ public interface ProductService {
      * @param request the pagination request containing search, filters, sorts, page, and size
      * @return page of product responses matching the criteria
      */
-    Page<ProductResponse> search(PaginationRequest request);
+    PageResponse<ProductResponse> search(PaginationRequest request);
+
+    /**
+     * Exports every product matching the search and filters, ignoring paging.
+     * 
+     * @param request the search, filters and sorts to apply
+     * @param format  NDJSON or CSV
+     * @return the body streaming the rows to the response
+     * @throws IllegalArgumentException if the request is invalid
+     */
+    StreamingResponseBody export(PaginationRequest request, ExportFormat format);
 
     /**
      * Creates a new product.
@@ -57,4 +72,32 @@ public interface ProductService {
      * @throws ResourceNotFoundException if product not found
      */
     void delete(Long id);
+
+    /**
+     * Creates products from a JSON array of create requests, in chunks.
+     * 
+     * @param body the request body
+     * @return counts and per-item errors
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    BulkResponse bulkCreate(InputStream body);
+
+    /**
+     * Updates products from a JSON array of update requests with IDs, in
+     * chunks.
+     * 
+     * @param body the request body
+     * @return counts and per-item errors, including IDs not found
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    BulkResponse bulkUpdate(InputStream body);
+
+    /**
+     * Soft deletes products from a JSON array of IDs, in chunks.
+     * 
+     * @param body the request body
+     * @return counts and per-item errors, including IDs not found
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    BulkResponse bulkDelete(InputStream body);
 }
@@ -1,20 +1,33 @@
 package com.valome.starter.service.product;
 
+import java.io.InputStream;
+import java.util.List;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.valome.starter.dto.core.BulkResponse;
+import com.valome.starter.dto.product.ProductBulkUpdateRequest;
 import com.valome.starter.dto.product.ProductCreateRequest;
 import com.valome.starter.dto.product.ProductResponse;
 import com.valome.starter.dto.product.ProductUpdateRequest;
+import com.valome.starter.dto.search.ExportFormat;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.mapper.ProductMapper;
 import com.valome.starter.model.Product;
+import com.valome.starter.repository.jdbc.ProductJdbcRepository;
 import com.valome.starter.repository.jpa.ProductRepository;
+import com.valome.starter.service.bulk.BulkProcessor;
 import com.valome.starter.service.search.PaginationService;
+import com.valome.starter.service.search.Projection;
+import com.valome.starter.service.search.SearchExporter;
+import com.valome.starter.service.search.SearchResultCache;
 import com.valome.starter.exception.ResourceNotFoundException;
 
 /**
@@ -29,21 +42,39 @@ import com.valome.starter.exception.ResourceNotFoundException;
 @Slf4j
 public class ProductServiceImpl implements ProductService {
 
+    /**
+     * Columns selected by search, in {@link ProductResponse} constructor order.
+     */
+    private static final Projection<Product, ProductResponse> SEARCH_PROJECTION = Projection.of(
+            Product.class, ProductResponse.class,
+            "id", "createdBy", "updatedBy", "createdAt", "updatedAt", "active", "name", "price", "description");
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
     private final PaginationService paginationService;
+    private final SearchResultCache searchResultCache;
+    private final SearchExporter searchExporter;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final BulkProcessor bulkProcessor;
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProductResponse> search(PaginationRequest request) {
+    public PageResponse<ProductResponse> search(PaginationRequest request) {
         log.debug("Searching products with request: {}", request);
 
-        Page<Product> productPage = paginationService.search(
+        return paginationService.search(
                 request,
-                productRepository,
-                Product.PAGINATION_FIELDS);
+                Product.SEARCH_SCHEMA,
+                SEARCH_PROJECTION);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody export(PaginationRequest request, ExportFormat format) {
+        log.debug("Exporting products as {} with request: {}", format, request);
 
-        return productPage.map(productMapper::toResponse);
+        // The exporter streams in its own read-only transaction
+        return searchExporter.export(request, Product.SEARCH_SCHEMA, SEARCH_PROJECTION, format);
     }
 
     @Override
@@ -52,6 +83,7 @@ public class ProductServiceImpl implements ProductService {
 
         Product product = productMapper.toEntity(request);
         product = productRepository.save(product);
+        searchResultCache.invalidateAfterCommit(Product.class);
 
         log.info("Created product with ID: {}", product.getId());
         return productMapper.toResponse(product);
@@ -77,6 +109,7 @@ public class ProductServiceImpl implements ProductService {
 
         productMapper.updateEntity(product, request);
         product = productRepository.save(product);
+        searchResultCache.invalidateAfterCommit(Product.class);
 
         log.info("Updated product with ID: {}", id);
         return productMapper.toResponse(product);
@@ -86,13 +119,49 @@ public class ProductServiceImpl implements ProductService {
     public void delete(Long id) {
         log.info("Deleting product with ID: {}", id);
 
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + id));
+        if (productRepository.softDeleteById(id) == 0) {
+            throw new ResourceNotFoundException("Product not found with ID: " + id);
+        }
+        searchResultCache.invalidateAfterCommit(Product.class);
 
-        product.softDelete();
+        log.info("Deleted product with ID: {}", id);
+    }
 
-        productRepository.save(product);
+    // The bulk methods commit chunk by chunk in the processor's transactions
 
-        log.info("Deleted product with ID: {}", id);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResponse bulkCreate(InputStream body) {
+        log.info("Bulk creating products");
+
+        return bulkProcessor.process(body, ProductCreateRequest.class, requests -> {
+            productJdbcRepository.insertAll(requests);
+            searchResultCache.invalidateAfterCommit(Product.class);
+            return null;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResponse bulkUpdate(InputStream body) {
+        log.info("Bulk updating products");
+
+        return bulkProcessor.process(body, ProductBulkUpdateRequest.class, requests -> {
+            List<String> errors = productJdbcRepository.updateAll(requests);
+            searchResultCache.invalidateAfterCommit(Product.class);
+            return errors;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkResponse bulkDelete(InputStream body) {
+        log.info("Bulk deleting products");
+
+        return bulkProcessor.process(body, Long.class, ids -> {
+            List<String> errors = productJdbcRepository.softDeleteAll(ids);
+            searchResultCache.invalidateAfterCommit(Product.class);
+            return errors;
+        });
     }
 }
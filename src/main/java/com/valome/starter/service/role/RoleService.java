@@ -2,12 +2,12 @@ package com.valome.starter.service.role;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 
 import com.valome.starter.dto.role.UserRoleRequest;
 import com.valome.starter.dto.role.RoleCreateRequest;
 import com.valome.starter.dto.role.RoleResponse;
 import com.valome.starter.dto.role.RoleUpdateRequest;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.exception.ResourceNotFoundException;
 
@@ -26,7 +26,7 @@ public interface RoleService {
      *                page, and size
      * @return page of role responses matching the criteria
      */
-    Page<RoleResponse> search(PaginationRequest request);
+    PageResponse<RoleResponse> search(PaginationRequest request);
 
     /**
      * Creates a new role.
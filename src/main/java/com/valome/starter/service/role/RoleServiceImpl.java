@@ -1,10 +1,8 @@
 package com.valome.starter.service.role;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +10,7 @@ import com.valome.starter.dto.role.UserRoleRequest;
 import com.valome.starter.dto.role.RoleCreateRequest;
 import com.valome.starter.dto.role.RoleResponse;
 import com.valome.starter.dto.role.RoleUpdateRequest;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.exception.ResourceNotFoundException;
 import com.valome.starter.jpa.role.RoleJpaRepository;
@@ -22,7 +21,11 @@ import com.valome.starter.model.Role;
 import com.valome.starter.model.User;
 import com.valome.starter.model.UserRole;
 import com.valome.starter.model.UserRoleId;
+import com.valome.starter.service.auth.TokenRevocationService;
 import com.valome.starter.service.search.PaginationService;
+import com.valome.starter.service.search.Projection;
+import com.valome.starter.service.search.SearchResultCache;
+import com.valome.starter.service.user.UserCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,23 +42,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RoleServiceImpl implements RoleService {
 
+    /**
+     * Columns selected by search, in {@link RoleResponse} constructor order.
+     */
+    private static final Projection<Role, RoleResponse> SEARCH_PROJECTION = Projection.of(
+            Role.class, RoleResponse.class,
+            "id", "createdBy", "updatedBy", "createdAt", "updatedAt", "active", "name");
+
     private final RoleJpaRepository roleJpaRepository;
     private final UserJpaRepository userJpaRepository;
     private final UserRoleJpaRepository userRoleJpaRepository;
     private final RoleMapper roleMapper;
     private final PaginationService paginationService;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final SearchResultCache searchResultCache;
 
     @Override
     @Transactional(readOnly = true)
-    public Page<RoleResponse> search(PaginationRequest request) {
+    public PageResponse<RoleResponse> search(PaginationRequest request) {
         log.debug("Searching roles with request: {}", request);
 
-        Page<Role> rolePage = paginationService.search(
+        return paginationService.search(
                 request,
-                roleJpaRepository,
-                Role.PAGINATION_FIELDS);
-
-        return rolePage.map(roleMapper::toResponse);
+                Role.SEARCH_SCHEMA,
+                SEARCH_PROJECTION);
     }
 
     @Override
@@ -69,6 +80,7 @@ public class RoleServiceImpl implements RoleService {
 
         Role role = roleMapper.toEntity(request);
         role = roleJpaRepository.save(role);
+        searchResultCache.invalidateAfterCommit(Role.class);
 
         log.info("Created role with ID: {}", role.getId());
         return roleMapper.toResponse(role);
@@ -102,6 +114,10 @@ public class RoleServiceImpl implements RoleService {
 
         roleMapper.updateEntity(role, request);
         role = roleJpaRepository.save(role);
+        searchResultCache.invalidateAfterCommit(Role.class);
+
+        // Cached users carry the role name as an authority
+        userCache.evictAfterCommit(userRoleJpaRepository.findUsernamesByRoleId(id));
 
         log.info("Updated role with ID: {}", id);
         return roleMapper.toResponse(role);
@@ -111,11 +127,15 @@ public class RoleServiceImpl implements RoleService {
     public void delete(Long id) {
         log.info("Deleting role with ID: {}", id);
 
-        Role role = roleJpaRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Role not found with ID: " + id));
+        if (roleJpaRepository.softDeleteById(id) == 0) {
+            throw new ResourceNotFoundException("Role not found with ID: " + id);
+        }
+        searchResultCache.invalidateAfterCommit(Role.class);
 
-        role.setDeletedAt(LocalDateTime.now());
-        roleJpaRepository.save(role);
+        List<String> usernames = userRoleJpaRepository.findUsernamesByRoleId(id);
+        userCache.evictAfterCommit(usernames);
+        // Issued tokens may still carry the role
+        usernames.forEach(tokenRevocationService::revokeAllForUser);
 
         log.info("Deleted role with ID: {}", id);
     }
@@ -145,6 +165,8 @@ public class RoleServiceImpl implements RoleService {
         userRole.setRole(role);
         userRoleJpaRepository.save(userRole);
 
+        userCache.evictAfterCommit(List.of(user.getUsername()));
+
         log.info("Assigned role {} to user {}", request.getRoleId(), request.getUserId());
         return roleMapper.toResponse(role);
     }
@@ -157,8 +179,12 @@ public class RoleServiceImpl implements RoleService {
         UserRole userRole = userRoleJpaRepository.findByIdUserIdAndIdRoleId(request.getUserId(), request.getRoleId())
                 .orElseThrow(() -> new ResourceNotFoundException("Role is not assigned to user"));
 
+        String username = userRole.getUser().getUsername();
         userRoleJpaRepository.delete(userRole);
 
+        userCache.evictAfterCommit(List.of(username));
+        tokenRevocationService.revokeAllForUser(username);
+
         log.info("Removed role {} from user {}", request.getRoleId(), request.getUserId());
     }
 
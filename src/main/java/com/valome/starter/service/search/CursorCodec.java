@@ -0,0 +1,91 @@
+package com.valome.starter.service.search;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Encodes the sort-key values of a boundary row into an opaque cursor.
+ *
+ * A cursor holds the paging direction, a signature of the sort it was made
+ * for and one value per sort order, URL-encoded and joined by {@code |}, then
+ * Base64url-encoded. Values are decoded with the schema's field converters.
+ */
+class CursorCodec {
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final String NULL = "~";
+
+    /**
+     * Decoded cursor.
+     *
+     * @param backward true if the cursor points at the rows before the
+     *                 boundary (previous page)
+     * @param values   the boundary row's sort-key values, one per order
+     */
+    record Cursor(boolean backward, List<Object> values) {
+    }
+
+    private CursorCodec() {
+    }
+
+    static String encode(boolean backward, Sort sort, List<Object> values) {
+        StringBuilder builder = new StringBuilder(VERSION)
+                .append(SEPARATOR).append(backward ? "p" : "n")
+                .append(SEPARATOR).append(signature(sort));
+        for (Object value : values) {
+            builder.append(SEPARATOR).append(value == null ? NULL : encodeValue(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param schema resolves each sort order's field and converter
+     * @throws IllegalArgumentException if the cursor is malformed or was
+     *                                  issued for a different sort
+     */
+    static Cursor decode(String cursor, Sort sort, SearchSchema<?> schema) {
+        List<Sort.Order> orders = sort.toList();
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (parts.length != 3 + orders.size() || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!signature(sort).equals(parts[2])) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        List<Object> values = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            String raw = parts[3 + i];
+            SearchSchema.Field field = schema.sortKey(orders.get(i).getProperty());
+            if (field == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            values.add(NULL.equals(raw) ? null : field.convert(URLDecoder.decode(raw, StandardCharsets.UTF_8)));
+        }
+        return new Cursor("p".equals(parts[1]), values);
+    }
+
+    private static String signature(Sort sort) {
+        return Integer.toHexString(sort.toString().hashCode());
+    }
+
+    private static String encodeValue(Object value) {
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package com.valome.starter.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.valome.starter.dto.search.FilterOperator;
+
+/**
+ * Parses the {@code filters} of a request into typed conditions.
+ *
+ * A filter value is either a plain value (CONTAINS for String fields, EQ
+ * otherwise) or an object of operator keys, combined with AND:
+ * {@code { "gte": 10, "lte": 20 }}. Operators are checked against the field's
+ * allowed set and operands converted to the field type here, so a bad filter
+ * is rejected before any query is built.
+ */
+final class FilterParser {
+    static final int MAX_IN_VALUES = 1000;
+
+    /**
+     * A single operator applied to a field. The value is the converted
+     * operand, a list for IN and BETWEEN, a Boolean for IS_NULL.
+     */
+    record Condition(SearchSchema.Field field, FilterOperator operator, Object value) {
+    }
+
+    private FilterParser() {
+    }
+
+    static List<Condition> parse(Map<String, Object> requestFilters, SearchSchema<?> schema) {
+        if (requestFilters == null || requestFilters.isEmpty()) {
+            return List.of();
+        }
+
+        List<Condition> conditions = new ArrayList<>(requestFilters.size());
+        for (Map.Entry<String, Object> entry : requestFilters.entrySet()) {
+            SearchSchema.Field field = schema.field(entry.getKey());
+            if (field == null || !field.filterable() || entry.getValue() == null) {
+                continue;
+            }
+
+            if (entry.getValue() instanceof Map<?, ?> operators) {
+                if (operators.isEmpty()) {
+                    throw new IllegalArgumentException(
+                            String.format("Filter for field '%s' has no operator", field.name()));
+                }
+                for (Map.Entry<?, ?> operator : operators.entrySet()) {
+                    conditions.add(condition(field, operator(field, String.valueOf(operator.getKey())),
+                            operator.getValue()));
+                }
+            } else {
+                FilterOperator operator = field.type() == String.class && field.allows(FilterOperator.CONTAINS)
+                        ? FilterOperator.CONTAINS
+                        : FilterOperator.EQ;
+                conditions.add(condition(field, operator, entry.getValue()));
+            }
+        }
+        return conditions;
+    }
+
+    private static FilterOperator operator(SearchSchema.Field field, String key) {
+        FilterOperator operator = FilterOperator.fromKey(key);
+        if (operator == null) {
+            throw new IllegalArgumentException(String.format("Unknown filter operator '%s' for field '%s'", key,
+                    field.name()));
+        }
+        return operator;
+    }
+
+    private static Condition condition(SearchSchema.Field field, FilterOperator operator, Object operand) {
+        if (!field.allows(operator)) {
+            throw new IllegalArgumentException(
+                    String.format("Filter operator '%s' is not allowed for field '%s'. Allowed operators: %s",
+                            operator, field.name(), field.operators()));
+        }
+
+        Object value = switch (operator) {
+            case IN -> {
+                List<Object> values = convertAll(field, operand);
+                if (values.isEmpty() || values.size() > MAX_IN_VALUES || values.contains(null)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Filter 'in' for field '%s' takes 1 to %d non-null values", field.name(),
+                            MAX_IN_VALUES));
+                }
+                yield values;
+            }
+            case BETWEEN -> {
+                List<Object> bounds = convertAll(field, operand);
+                if (bounds.size() != 2 || bounds.contains(null)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Filter 'between' for field '%s' takes exactly two values", field.name()));
+                }
+                yield bounds;
+            }
+            case IS_NULL -> {
+                if (!(operand instanceof Boolean) && !"true".equals(operand) && !"false".equals(operand)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Filter 'isNull' for field '%s' takes true or false", field.name()));
+                }
+                yield Boolean.valueOf(operand.toString());
+            }
+            case STARTS_WITH, CONTAINS -> {
+                if (operand == null || operand instanceof Collection<?> || operand.toString().isEmpty()) {
+                    throw new IllegalArgumentException(String.format(
+                            "Filter '%s' for field '%s' takes a non-empty text", operator, field.name()));
+                }
+                yield operand.toString();
+            }
+            default -> {
+                if (operand == null || operand instanceof Collection<?> || operand instanceof Map<?, ?>) {
+                    throw new IllegalArgumentException(String.format(
+                            "Filter '%s' for field '%s' takes a single value", operator, field.name()));
+                }
+                yield field.convert(operand);
+            }
+        };
+        return new Condition(field, operator, value);
+    }
+
+    private static List<Object> convertAll(SearchSchema.Field field, Object operand) {
+        if (!(operand instanceof Collection<?> values)) {
+            return operand == null ? List.of() : List.of(field.convert(operand));
+        }
+        List<Object> converted = new ArrayList<>(values.size());
+        for (Object value : values) {
+            converted.add(value != null ? field.convert(value) : null);
+        }
+        return converted;
+    }
+}
@@ -1,28 +1,53 @@
 package com.valome.starter.service.search;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.data.jpa.domain.Specification;
 
-import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.config.SearchFunctionContributor;
 import com.valome.starter.dto.search.PaginationRequest;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
+/**
+ * Translates the search text and filters of a request into predicates.
+ *
+ * Filters are parsed by {@link FilterParser} when the specification is
+ * created, so invalid operators and values fail before any query is built.
+ * Every operator except CONTAINS compares the bare column, so a B-tree index
+ * on it can serve the predicate.
+ *
+ * Global search ORs a {@code lower(field) LIKE} per LIKE/TRIGRAM field with a
+ * single {@code search_vector @@ to_tsquery(...)} when the schema has
+ * FULL_TEXT fields. Without explicit sorts, full-text matches are ordered by
+ * {@code ts_rank}; the id tie-breaker still follows.
+ */
 public class GenericSpecification<T> implements Specification<T> {
-
-    private final PaginationRequest req;
-    private final List<FieldConfig> whitelist;
-
-    public GenericSpecification(PaginationRequest req, List<FieldConfig> whitelist) {
-        this.req = req;
-        this.whitelist = whitelist;
+    private static final char ESCAPE = '\\';
+
+    private final String searchText;
+    private final String keyword;
+    private final String textQuery;
+    private final List<SearchSchema.Field> likeSearchFields;
+    private final boolean fullTextSearch;
+    private final boolean rankByRelevance;
+    private final List<FilterParser.Condition> filters;
+
+    public GenericSpecification(PaginationRequest req, SearchSchema<T> schema) {
+        this.searchText = req.getSearch() != null && !req.getSearch().isBlank() ? req.getSearch().trim() : null;
+        this.keyword = searchText != null ? "%" + searchText.toLowerCase() + "%" : null;
+        this.textQuery = searchText != null ? SearchFunctionContributor.prefixQuery(searchText) : null;
+        this.likeSearchFields = schema.likeSearchFields();
+        this.fullTextSearch = schema.isFullTextSearch();
+        // Keyset pages must follow the requested sort exactly
+        this.rankByRelevance = searchText != null && fullTextSearch && !req.isCursorMode()
+                && (req.getSorts() == null || req.getSorts().isEmpty());
+        this.filters = FilterParser.parse(req.getFilters(), schema);
     }
 
     @Override
@@ -31,56 +56,53 @@ public class GenericSpecification<T> implements Specification<T> {
         List<Predicate> predicates = new ArrayList<>();
 
         // 1️⃣ Global search (only searchable whitelist fields)
-        if (req.getSearch() != null && !req.getSearch().isEmpty()) {
-            String keyword = "%" + req.getSearch().toLowerCase() + "%";
-
-            List<Predicate> searchPredicates = whitelist.stream()
-                    .filter(FieldConfig::isSearchable)
-                    .filter(f -> f.getType() == String.class)
-                    .map(f -> cb.like(cb.lower(root.get(f.getName())), keyword))
-                    .toList();
-
-            if (!searchPredicates.isEmpty()) {
-                predicates.add(cb.or(searchPredicates.toArray(new Predicate[0])));
+        if (searchText != null && (fullTextSearch || !likeSearchFields.isEmpty())) {
+            List<Predicate> searchPredicates = new ArrayList<>(likeSearchFields.size() + 1);
+            for (SearchSchema.Field field : likeSearchFields) {
+                searchPredicates.add(cb.like(cb.lower(root.get(field.name())), keyword));
+            }
+            if (fullTextSearch) {
+                searchPredicates.add(cb.isTrue(cb.function(SearchFunctionContributor.MATCH, Boolean.class,
+                        root.get(SearchSchema.SEARCH_VECTOR_FIELD), cb.literal(textQuery))));
+                // No query when deleting or updating by specification
+                if (rankByRelevance && query != null && query.getResultType() != Long.class) {
+                    query.orderBy(cb.desc(cb.function(SearchFunctionContributor.RANK, Double.class,
+                            root.get(SearchSchema.SEARCH_VECTOR_FIELD), cb.literal(textQuery))));
+                }
             }
+            predicates.add(cb.or(searchPredicates.toArray(new Predicate[0])));
         }
 
-        // 2️⃣ Filters (only filterable whitelist fields)
-        if (req.getFilters() != null && !req.getFilters().isEmpty()) {
-            for (Map.Entry<String, Object> entry : req.getFilters().entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
-
-                whitelist.stream()
-                        .filter(f -> f.isFilterable() && f.getName().equals(key))
-                        .findFirst()
-                        .ifPresent(f -> {
-                            if (f.getType() == String.class) {
-                                predicates.add(cb.like(cb.lower(root.get(f.getName())),
-                                        "%" + value.toString().toLowerCase() + "%"));
-                            } else {
-                                predicates.add(cb.equal(root.get(f.getName()), convertToType(f.getType(), value)));
-                            }
-                        });
-            }
+        // 2️⃣ Filters (only filterable whitelist fields, allowed operators)
+        for (FilterParser.Condition filter : filters) {
+            predicates.add(toPredicate(filter, root, cb));
         }
 
         return cb.and(predicates.toArray(new Predicate[0]));
     }
 
-    private Object convertToType(Class<?> type, Object value) {
-        if (value == null)
-            return null;
-        if (type == Integer.class || type == int.class)
-            return Integer.valueOf(value.toString());
-        if (type == Long.class || type == long.class)
-            return Long.valueOf(value.toString());
-        if (type == Boolean.class || type == boolean.class)
-            return Boolean.valueOf(value.toString());
-        if (type == Double.class || type == double.class)
-            return Double.valueOf(value.toString());
-        if (type == LocalDateTime.class)
-            return LocalDateTime.parse(value.toString());
-        return value;
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Predicate toPredicate(FilterParser.Condition filter, Root<?> root, CriteriaBuilder cb) {
+        Path path = root.get(filter.field().name());
+        Object value = filter.value();
+
+        return switch (filter.operator()) {
+            case EQ -> cb.equal(path, value);
+            case IN -> path.in((List<?>) value);
+            case GTE -> cb.greaterThanOrEqualTo(path, (Comparable) value);
+            case LTE -> cb.lessThanOrEqualTo(path, (Comparable) value);
+            case BETWEEN -> {
+                List<?> bounds = (List<?>) value;
+                yield cb.between(path, (Comparable) bounds.get(0), (Comparable) bounds.get(1));
+            }
+            case STARTS_WITH -> cb.like(path, escapeLike((String) value) + "%", ESCAPE);
+            case IS_NULL -> (Boolean) value ? cb.isNull(path) : cb.isNotNull(path);
+            case CONTAINS -> cb.like(cb.lower(path), "%" + escapeLike(((String) value).toLowerCase()) + "%",
+                    ESCAPE);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 }
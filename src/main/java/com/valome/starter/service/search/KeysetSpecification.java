@@ -0,0 +1,83 @@
+package com.valome.starter.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Seek predicate selecting the rows after (or before) a boundary row in the
+ * given sort order.
+ *
+ * For orders k1..kn it renders
+ * {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...}, with {@code >} replaced
+ * by {@code <} for descending orders. Nulls follow PostgreSQL's default
+ * ordering (they sort as the largest value: last ascending, first
+ * descending), so nullable sort keys page correctly. The last order must be
+ * a unique, non-null key such as {@code id}.
+ */
+class KeysetSpecification<T> implements Specification<T> {
+    private final List<Sort.Order> orders;
+    private final List<Object> values;
+    private final boolean backward;
+
+    KeysetSpecification(Sort sort, List<Object> values, boolean backward) {
+        this.orders = sort.toList();
+        this.values = values;
+        this.backward = backward;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> alternatives = new ArrayList<>(orders.size());
+        List<Predicate> equalPrefix = new ArrayList<>(orders.size());
+
+        for (int i = 0; i < orders.size(); i++) {
+            Expression<Comparable<Object>> path = root.get(orders.get(i).getProperty());
+            Comparable<Object> value = comparable(values.get(i));
+
+            // Backward paging walks the order in reverse
+            boolean greater = orders.get(i).isAscending() != backward;
+            Predicate beyond = greater ? greaterThan(cb, path, value) : lessThan(cb, path, value);
+
+            if (beyond != null) {
+                List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(beyond);
+                alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            }
+            equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+
+        return alternatives.isEmpty() ? cb.disjunction() : cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    // Nulls are the largest value: everything non-null is below a null
+    // boundary, and nothing is strictly above it
+    private Predicate greaterThan(CriteriaBuilder cb, Expression<Comparable<Object>> path,
+            Comparable<Object> value) {
+        if (value == null) {
+            return null;
+        }
+        return cb.or(cb.greaterThan(path, value), cb.isNull(path));
+    }
+
+    private Predicate lessThan(CriteriaBuilder cb, Expression<Comparable<Object>> path,
+            Comparable<Object> value) {
+        if (value == null) {
+            return cb.isNotNull(path);
+        }
+        return cb.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+}
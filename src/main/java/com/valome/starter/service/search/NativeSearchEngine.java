@@ -0,0 +1,401 @@
+package com.valome.starter.service.search;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.valome.starter.config.SearchFunctionContributor;
+import com.valome.starter.dto.search.PaginationRequest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Search engine that writes a request straight into parameterized SQL.
+ *
+ * The statement is assembled from the compiled {@link SearchSchema} and the
+ * entity's column names, with no Criteria tree and no HQL rendering. Its text
+ * depends only on the shape of the request: which fields are searched and
+ * filtered with which operators, the sort, the count mode. Values, including
+ * IN lists ({@code = ANY(?)} with an array) and LIMIT/OFFSET, are always bind
+ * parameters, and filters are written in field order whatever their order in
+ * the JSON. Requests of the same shape therefore send identical SQL, and
+ * pgjdbc promotes it to a server-side prepared statement once it has run
+ * {@code prepareThreshold} times on a connection.
+ *
+ * Rows are read from the result set into the projection's constructor; no
+ * entity or tuple is created. The predicates match
+ * {@link GenericSpecification}, {@link KeysetSpecification} and the
+ * soft-delete filter, so both engines return the same rows. Enum fields are
+ * assumed to be stored by name.
+ */
+@Component
+public class NativeSearchEngine {
+    private static final String DELETED_AT_FIELD = "deletedAt";
+    private static final String TEXT_SEARCH_CONFIG = "'simple'";
+
+    private static final Map<Class<?>, String> ARRAY_TYPES = Map.of(
+            String.class, "varchar",
+            Integer.class, "int4",
+            Long.class, "int8",
+            Boolean.class, "bool",
+            Double.class, "float8",
+            BigDecimal.class, "numeric",
+            LocalDateTime.class, "timestamp",
+            LocalDate.class, "date");
+
+    private static final ClassValue<TableMapping> TABLES = new ClassValue<>() {
+        @Override
+        protected TableMapping computeValue(Class<?> type) {
+            return TableMapping.of(type);
+        }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NativeSearchEngine(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Table and column names of an entity, read once from its {@code @Table}
+     * and {@code @Column} annotations; unannotated fields use the snake_case
+     * of their name, as Spring Boot's naming strategy does.
+     */
+    record TableMapping(String table, Map<String, String> columns) {
+
+        static TableMapping of(Class<?> entityType) {
+            Table table = entityType.getAnnotation(Table.class);
+            if (table == null || table.name().isEmpty()) {
+                throw new IllegalStateException(entityType.getSimpleName() + " has no @Table name");
+            }
+
+            Map<String, String> columns = new HashMap<>();
+            for (Class<?> type = entityType; type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                        continue;
+                    }
+                    Column column = field.getAnnotation(Column.class);
+                    columns.putIfAbsent(field.getName(), column != null && !column.name().isEmpty()
+                            ? column.name()
+                            : field.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase());
+                }
+            }
+            return new TableMapping(table.name(), Map.copyOf(columns));
+        }
+
+        String column(String attribute) {
+            String column = columns.get(attribute);
+            if (column == null) {
+                throw new IllegalStateException("No column for attribute '" + attribute + "' of " + table);
+            }
+            return column;
+        }
+    }
+
+    /**
+     * SQL text and its bind values, in order.
+     */
+    private record Fragment(String sql, List<Object> parameters) {
+    }
+
+    /**
+     * An IN list bound as one SQL array.
+     */
+    private record ArrayParameter(String elementType, Object[] elements) {
+    }
+
+    /**
+     * The queries of one search.
+     *
+     * @param request    an initialized, validated request
+     * @param sort       the requested sort with the id tie-breaker; backward
+     *                   cursor pages are read in reverse
+     * @param cursor     the keyset boundary, or null for offset pages and the
+     *                   first cursor page
+     * @param projection the selected attributes; the entity projection is not
+     *                   supported
+     */
+    <T, R> SearchQueries<R> queries(PaginationRequest request, SearchSchema<T> schema, Sort sort,
+            CursorCodec.Cursor cursor, Projection<T, R> projection) {
+        if (projection.getAttributes() == null) {
+            throw new IllegalArgumentException("Native search selects projections, not entities");
+        }
+
+        TableMapping mapping = TABLES.get(schema.getEntityType());
+        Fragment where = where(request, schema, mapping, sort, cursor);
+        Fragment orderBy = orderBy(request, schema, mapping, sort, cursor != null && cursor.backward());
+        String columns = projection.getAttributes().stream()
+                .map(mapping::column)
+                .collect(Collectors.joining(", "));
+        String from = " FROM " + mapping.table() + " WHERE " + where.sql();
+        int width = projection.getAttributes().size();
+
+        return new SearchQueries<>() {
+            @Override
+            public List<R> findPage(long offset, int limit) {
+                return jdbcTemplate.query("SELECT " + columns + from + orderBy.sql() + " LIMIT ? OFFSET ?",
+                        parameters(where, orderBy, limit, offset), rowMapper(projection));
+            }
+
+            @Override
+            public SearchQueryExecutor.WindowedPage<R> findPageWithTotal(long offset, int limit) {
+                List<Long> total = new ArrayList<>(1);
+                RowMapper<R> rows = rowMapper(projection);
+                List<R> page = jdbcTemplate.query(
+                        "SELECT " + columns + ", count(*) OVER ()" + from + orderBy.sql() + " LIMIT ? OFFSET ?",
+                        parameters(where, orderBy, limit, offset), (rs, rowNum) -> {
+                            if (rowNum == 0) {
+                                total.add(rs.getLong(width + 1));
+                            }
+                            return rows.mapRow(rs, rowNum);
+                        });
+                return new SearchQueryExecutor.WindowedPage<>(page, total.isEmpty() ? null : total.get(0));
+            }
+
+            @Override
+            public long count() {
+                Long count = jdbcTemplate.query("SELECT count(*)" + from, parameters(where),
+                        rs -> rs.next() ? rs.getLong(1) : 0L);
+                return count != null ? count : 0;
+            }
+        };
+    }
+
+    private Fragment where(PaginationRequest request, SearchSchema<?> schema, TableMapping mapping, Sort sort,
+            CursorCodec.Cursor cursor) {
+        StringBuilder sql = new StringBuilder(mapping.column(DELETED_AT_FIELD)).append(" IS NULL");
+        List<Object> parameters = new ArrayList<>();
+
+        // Global search, as GenericSpecification: LIKE per field OR one full-text match
+        String searchText = searchText(request);
+        if (searchText != null && (schema.isFullTextSearch() || !schema.likeSearchFields().isEmpty())) {
+            List<String> alternatives = new ArrayList<>();
+            String keyword = "%" + searchText.toLowerCase() + "%";
+            for (SearchSchema.Field field : schema.likeSearchFields()) {
+                alternatives.add("lower(" + mapping.column(field.name()) + ") LIKE ?");
+                parameters.add(keyword);
+            }
+            if (schema.isFullTextSearch()) {
+                alternatives.add(mapping.column(SearchSchema.SEARCH_VECTOR_FIELD) + " @@ to_tsquery("
+                        + TEXT_SEARCH_CONFIG + ", ?)");
+                parameters.add(SearchFunctionContributor.prefixQuery(searchText));
+            }
+            sql.append(" AND (").append(String.join(" OR ", alternatives)).append(')');
+        }
+
+        // Filters in a fixed order, so the JSON key order does not change the text
+        List<FilterParser.Condition> conditions = new ArrayList<>(FilterParser.parse(request.getFilters(), schema));
+        conditions.sort(Comparator.comparing((FilterParser.Condition condition) -> condition.field().name())
+                .thenComparing(FilterParser.Condition::operator));
+        for (FilterParser.Condition condition : conditions) {
+            sql.append(" AND ").append(condition(condition, mapping.column(condition.field().name()), parameters));
+        }
+
+        if (cursor != null) {
+            sql.append(" AND ").append(keyset(sort, cursor, mapping, parameters));
+        }
+        return new Fragment(sql.toString(), parameters);
+    }
+
+    private static String condition(FilterParser.Condition condition, String column, List<Object> parameters) {
+        Object value = condition.value();
+        return switch (condition.operator()) {
+            case EQ -> {
+                parameters.add(value);
+                yield column + " = ?";
+            }
+            case IN -> {
+                parameters.add(array(condition.field(), (List<?>) value));
+                yield column + " = ANY(?)";
+            }
+            case GTE -> {
+                parameters.add(value);
+                yield column + " >= ?";
+            }
+            case LTE -> {
+                parameters.add(value);
+                yield column + " <= ?";
+            }
+            case BETWEEN -> {
+                parameters.addAll((List<?>) value);
+                yield column + " BETWEEN ? AND ?";
+            }
+            case STARTS_WITH -> {
+                parameters.add(escapeLike((String) value) + "%");
+                yield column + " LIKE ? ESCAPE '\\'";
+            }
+            case IS_NULL -> column + ((Boolean) value ? " IS NULL" : " IS NOT NULL");
+            case CONTAINS -> {
+                parameters.add("%" + escapeLike(((String) value).toLowerCase()) + "%");
+                yield "lower(" + column + ") LIKE ? ESCAPE '\\'";
+            }
+        };
+    }
+
+    /**
+     * Seek predicate of {@link KeysetSpecification}, with the same null
+     * ordering: nulls sort as the largest value.
+     */
+    private static String keyset(Sort sort, CursorCodec.Cursor cursor, TableMapping mapping,
+            List<Object> parameters) {
+        List<String> alternatives = new ArrayList<>();
+        List<String> equalPrefix = new ArrayList<>();
+        List<Object> prefixParameters = new ArrayList<>();
+
+        List<Sort.Order> orders = sort.toList();
+        for (int i = 0; i < orders.size(); i++) {
+            String column = mapping.column(orders.get(i).getProperty());
+            Object value = cursor.values().get(i);
+
+            // Backward paging walks the order in reverse
+            boolean greater = orders.get(i).isAscending() != cursor.backward();
+            String beyond = greater
+                    ? value == null ? null : "(" + column + " > ? OR " + column + " IS NULL)"
+                    : value == null ? column + " IS NOT NULL" : column + " < ?";
+
+            if (beyond != null) {
+                List<String> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(beyond);
+                alternatives.add("(" + String.join(" AND ", alternative) + ")");
+                parameters.addAll(prefixParameters);
+                if (value != null) {
+                    parameters.add(value);
+                }
+            }
+            if (value == null) {
+                equalPrefix.add(column + " IS NULL");
+            } else {
+                equalPrefix.add(column + " = ?");
+                prefixParameters.add(value);
+            }
+        }
+        return alternatives.isEmpty() ? "FALSE" : "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private Fragment orderBy(PaginationRequest request, SearchSchema<?> schema, TableMapping mapping, Sort sort,
+            boolean backward) {
+        List<String> orders = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+
+        // Relevance first, as GenericSpecification, unless sorts were given or paging by keyset
+        String searchText = searchText(request);
+        if (searchText != null && schema.isFullTextSearch() && !request.isCursorMode()
+                && request.getSorts().isEmpty()) {
+            orders.add("ts_rank(" + mapping.column(SearchSchema.SEARCH_VECTOR_FIELD) + ", to_tsquery("
+                    + TEXT_SEARCH_CONFIG + ", ?)) DESC");
+            parameters.add(SearchFunctionContributor.prefixQuery(searchText));
+        }
+        // Previous pages are read in reverse and flipped back by the caller
+        sort.forEach(order -> orders.add(mapping.column(order.getProperty())
+                + (order.isAscending() != backward ? " ASC" : " DESC")));
+
+        return new Fragment(orders.isEmpty() ? "" : " ORDER BY " + String.join(", ", orders), parameters);
+    }
+
+    private static String searchText(PaginationRequest request) {
+        return request.getSearch() != null && !request.getSearch().isBlank() ? request.getSearch().trim() : null;
+    }
+
+    private static PreparedStatementSetter parameters(Fragment where, Fragment orderBy, int limit, long offset) {
+        List<Object> parameters = new ArrayList<>(where.parameters().size() + orderBy.parameters().size() + 2);
+        parameters.addAll(where.parameters());
+        parameters.addAll(orderBy.parameters());
+        parameters.add(limit);
+        parameters.add(offset);
+        return setter(parameters);
+    }
+
+    private static PreparedStatementSetter parameters(Fragment where) {
+        return setter(where.parameters());
+    }
+
+    private static PreparedStatementSetter setter(List<Object> parameters) {
+        return ps -> {
+            for (int i = 0; i < parameters.size(); i++) {
+                bind(ps, i + 1, parameters.get(i));
+            }
+        };
+    }
+
+    private static void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value instanceof ArrayParameter array) {
+            ps.setArray(index, ps.getConnection().createArrayOf(array.elementType(), array.elements()));
+        } else if (value instanceof Enum<?> constant) {
+            ps.setString(index, constant.name());
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    private static ArrayParameter array(SearchSchema.Field field, List<?> values) {
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(field.type());
+        String elementType = type.isEnum() ? "varchar" : ARRAY_TYPES.get(type);
+        if (elementType == null) {
+            throw new IllegalArgumentException("Filter 'in' is not supported for field '" + field.name() + "'");
+        }
+
+        Object[] elements = new Object[values.size()];
+        for (int i = 0; i < elements.length; i++) {
+            Object value = values.get(i);
+            elements[i] = switch (value) {
+                case Enum<?> constant -> constant.name();
+                case LocalDateTime dateTime -> Timestamp.valueOf(dateTime);
+                case LocalDate date -> Date.valueOf(date);
+                default -> value;
+            };
+        }
+        return new ArrayParameter(elementType, elements);
+    }
+
+    private static <R> RowMapper<R> rowMapper(Projection<?, R> projection) {
+        int width = projection.getAttributes().size();
+        Class<?>[] types = new Class<?>[width];
+        for (int i = 0; i < width; i++) {
+            types[i] = ClassUtils.resolvePrimitiveIfNecessary(projection.valueType(i));
+        }
+        return (ResultSet rs, int rowNum) -> {
+            Object[] values = new Object[width];
+            for (int i = 0; i < width; i++) {
+                // pgjdbc converts to JDBC types only; enums are stored by name
+                values[i] = types[i].isEnum()
+                        ? enumValue(types[i], rs.getString(i + 1))
+                        : rs.getObject(i + 1, types[i]);
+            }
+            return projection.create(values);
+        };
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object enumValue(Class<?> type, String name) {
+        return name != null ? Enum.valueOf((Class<? extends Enum>) type, name) : null;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
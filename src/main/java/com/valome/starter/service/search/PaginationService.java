@@ -1,11 +1,8 @@
 package com.valome.starter.service.search;
 
-import java.util.List;
-
-import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 
 /**
@@ -17,18 +14,58 @@ public interface PaginationService {
     /**
      * Performs paginated search with filtering, sorting, and global search.
      * Automatically handles null requests by creating a default initialized
-     * request.
+     * request. Pages by offset, or by keyset when the request is in cursor
+     * mode; results are always ordered with {@code id} as the last sort key.
+     * Offset searches compute the total as the request's count mode asks.
      * 
      * @param <T>          The entity type
      * @param request      The pagination request containing filters, sorts, search,
      *                     page, and size. Can be null - will be replaced with
      *                     default values.
      * @param repository   The JPA repository that supports specification execution
-     * @param fieldConfigs The whitelist of allowed fields for filtering, sorting,
-     *                     and searching
-     * @return A paginated result
-     * @throws IllegalArgumentException if the request is invalid
+     * @param schema       The entity's compiled whitelist of fields allowed for
+     *                     filtering, sorting, and searching
+     * @return A paginated result; cursor mode returns cursors instead of totals
+     * @throws IllegalArgumentException if the request or cursor is invalid, or
+     *                                  the offset exceeds the maximum depth
+     */
+    <T> PageResponse<T> search(PaginationRequest request, JpaSpecificationExecutor<T> repository,
+            SearchSchema<T> schema);
+
+    /**
+     * Same search, selecting only the projection's columns and building each
+     * result straight from them. No entity is loaded into the persistence
+     * context, so read-only listings skip hydration, dirty-checking snapshots
+     * and the mapping pass. Results are served from {@link SearchResultCache}
+     * until the entity type is invalidated.
+     *
+     * @param <T>        The entity type
+     * @param <R>        The result type
+     * @param request    The pagination request; can be null
+     * @param schema     The entity's compiled whitelist of fields
+     * @param projection The selected attributes and the result constructor
+     * @return A paginated result of projected rows
+     * @throws IllegalArgumentException if the request or cursor is invalid, or
+     *                                  the offset exceeds the maximum depth
+     */
+    <T, R> PageResponse<R> search(PaginationRequest request, SearchSchema<T> schema, Projection<T, R> projection);
+
+    /**
+     * Same search in two phases, for entities whose associations are needed
+     * with every row. The page is first selected as ids only, then those
+     * entities are loaded by id together with the associations named by
+     * {@code fetchPaths} in a single query, keeping the page order. A page
+     * costs two statements (plus the count, as the count mode asks) whatever
+     * its size, and the fetch joins never multiply the rows being paged.
+     *
+     * @param <T>        The entity type
+     * @param request    The pagination request; can be null
+     * @param schema     The entity's compiled whitelist of fields
+     * @param fetchPaths Associations to load with each entity, dotted for
+     *                   nested ones, e.g. {@code "userRoles.role"}
+     * @return A paginated result of managed entities
+     * @throws IllegalArgumentException if the request or cursor is invalid, or
+     *                                  the offset exceeds the maximum depth
      */
-    <T> Page<T> search(PaginationRequest request, JpaSpecificationExecutor<T> repository,
-            List<FieldConfig> fieldConfigs);
+    <T> PageResponse<T> searchFetching(PaginationRequest request, SearchSchema<T> schema, String... fetchPaths);
 }
@@ -1,33 +1,115 @@
 package com.valome.starter.service.search;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
 
 import com.valome.starter.builder.SortBuilder;
-import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.config.NativeSearchProperties;
+import com.valome.starter.dto.search.CountMode;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Generic implementation of pagination service with validation and error
- * handling.
+ * handling. Every search runs through {@link SlowSearchLog}.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PaginationServiceImpl implements PaginationService {
     private static final int MAX_PAGE_SIZE = 1000;
+    private static final long MAX_OFFSET = 10_000;
+    private static final String ID_FIELD = "id";
+
+    private final SearchQueryExecutor searchQueryExecutor;
+    private final NativeSearchEngine nativeSearchEngine;
+    private final NativeSearchProperties nativeSearchProperties;
+    private final SearchResultCache searchResultCache;
+    private final ParallelPageLoader parallelPageLoader;
+    private final SlowSearchLog slowSearchLog;
+
+    @Override
+    public <T> PageResponse<T> search(PaginationRequest request, JpaSpecificationExecutor<T> repository,
+            SearchSchema<T> schema) {
+        PaginationRequest initialized = initialize(request, schema);
+        Specification<T> spec = specification(initialized, schema);
+        Sort sort = sort(initialized, schema);
+        Class<T> entityType = schema.getEntityType();
+
+        return slowSearchLog.run(initialized, entityType, () -> execute(() -> {
+            if (initialized.isCursorMode()) {
+                CursorCodec.Cursor cursor = decodeCursor(initialized, sort, schema);
+                Specification<T> keyset = keysetSpecification(spec, sort, cursor);
+                Sort querySort = isBackward(cursor) ? reverse(sort) : sort;
+                List<T> rows = repository.findBy(keyset, query -> query
+                        .sortBy(querySort)
+                        .limit(initialized.getSize() + 1)
+                        .all());
+                return cursorPage(initialized, sort, cursor, rows);
+            }
+
+            return searchByOffset(initialized, entityType,
+                    searchQueryExecutor.queries(entityType, spec, sort, Projection.entity(entityType)));
+        }));
+    }
+
+    @Override
+    public <T, R> PageResponse<R> search(PaginationRequest request, SearchSchema<T> schema,
+            Projection<T, R> projection) {
+        PaginationRequest initialized = initialize(request, schema);
+        Sort sort = sort(initialized, schema);
+
+        return slowSearchLog.run(initialized, schema.getEntityType(), () -> searchResultCache.get(
+                schema.getEntityType(), projection.getResultType(), initialized, () -> execute(() -> {
+                    if (initialized.isCursorMode()) {
+                        CursorCodec.Cursor cursor = decodeCursor(initialized, sort, schema);
+                        List<R> rows = queries(initialized, schema, sort, cursor, projection)
+                                .findPage(0, initialized.getSize() + 1);
+                        return cursorPage(initialized, sort, cursor, rows);
+                    }
+
+                    return searchByOffset(initialized, schema.getEntityType(),
+                            queries(initialized, schema, sort, null, projection));
+                })));
+    }
 
     @Override
-    public <T> Page<T> search(PaginationRequest request, JpaSpecificationExecutor<T> repository,
-            List<FieldConfig> fieldConfigs) {
+    public <T> PageResponse<T> searchFetching(PaginationRequest request, SearchSchema<T> schema,
+            String... fetchPaths) {
+        PaginationRequest initialized = initialize(request, schema);
+        Sort sort = sort(initialized, schema);
+        Class<T> entityType = schema.getEntityType();
+        Projection<T, Long> ids = Projection.attribute(entityType, Long.class, ID_FIELD);
+
+        return slowSearchLog.run(initialized, entityType, () -> execute(() -> {
+            if (initialized.isCursorMode()) {
+                CursorCodec.Cursor cursor = decodeCursor(initialized, sort, schema);
+                List<Long> rowIds = queries(initialized, schema, sort, cursor, ids)
+                        .findPage(0, initialized.getSize() + 1);
+                return cursorPage(initialized, sort, cursor,
+                        searchQueryExecutor.findAllById(entityType, rowIds, fetchPaths));
+            }
+
+            PageResponse<Long> page = searchByOffset(initialized, entityType,
+                    queries(initialized, schema, sort, null, ids));
+            return new PageResponse<>(searchQueryExecutor.findAllById(entityType, page.getContent(), fetchPaths),
+                    page.getPage());
+        }));
+    }
+
+    private PaginationRequest initialize(PaginationRequest request, SearchSchema<?> schema) {
         // Handle null request - create default initialized request
         if (request == null) {
             request = PaginationRequest.createDefault();
@@ -37,40 +119,219 @@ public class PaginationServiceImpl implements PaginationService {
         }
 
         // Validate request
-        validateRequest(request, fieldConfigs);
+        validateRequest(request, schema);
+        return request;
+    }
 
+    /**
+     * The request's search and filters restricted to live rows. Shared with
+     * {@link SearchExporter}.
+     */
+    static <T> Specification<T> specification(PaginationRequest request, SearchSchema<T> schema) {
         // Build specification for filtering and searching
-        Specification<T> spec = new GenericSpecification<>(request, fieldConfigs);
+        Specification<T> spec = new GenericSpecification<>(request, schema);
 
         // Add soft-delete filter to exclude deleted records (deletedAt IS NULL)
         Specification<T> softDeleteSpec = (root, query, cb) -> cb.isNull(root.get("deletedAt"));
-        spec = spec.and(softDeleteSpec);
-
-        // Build sort
-        Sort sort = SortBuilder.build(request.getSorts(), fieldConfigs);
-
-        // Build pageable with validated page and size
-        int page = request.getPage();
-        int size = request.getSize();
+        return spec.and(softDeleteSpec);
+    }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
+    /**
+     * The requested sort with {@code id} as tie-breaker. Shared with
+     * {@link SearchExporter}.
+     */
+    static Sort sort(PaginationRequest request, SearchSchema<?> schema) {
+        // Build sort, with id as tie-breaker so the order is total and stable
+        return withTieBreaker(SortBuilder.build(request.getSorts(), schema));
+    }
 
+    private <R> PageResponse<R> execute(Supplier<PageResponse<R>> query) {
         try {
-            return repository.findAll(spec, pageable);
+            return query.get();
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error executing pagination query", e);
             throw new IllegalArgumentException("Failed to execute search query: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * The queries of a projected search: native SQL when enabled, otherwise
+     * the Criteria API. With a cursor, only rows past its boundary are read,
+     * in reverse for a previous page.
+     */
+    private <T, R> SearchQueries<R> queries(PaginationRequest request, SearchSchema<T> schema, Sort sort,
+            CursorCodec.Cursor cursor, Projection<T, R> projection) {
+        if (nativeSearchProperties.isEnabled() && projection.getAttributes() != null) {
+            return nativeSearchEngine.queries(request, schema, sort, cursor, projection);
+        }
+
+        Specification<T> spec = keysetSpecification(specification(request, schema), sort, cursor);
+        return searchQueryExecutor.queries(schema.getEntityType(), spec, isBackward(cursor) ? reverse(sort) : sort,
+                projection);
+    }
+
+    /**
+     * Offset pagination with the total computed as the request's count mode
+     * asks. Only EXACT issues a separate count query, concurrently with the
+     * page when {@link ParallelPageLoader} is enabled. Pages are read through
+     * {@link SearchQueries} so orders set by the search, such as full-text
+     * ranking, are kept.
+     */
+    private <R> PageResponse<R> searchByOffset(PaginationRequest request, Class<?> entityType,
+            SearchQueries<R> queries) {
+        int page = request.getPage();
+        int size = request.getSize();
+        long offset = (long) page * size;
+
+        switch (request.getCountMode()) {
+            case NONE -> {
+                List<R> rows = new ArrayList<>(queries.findPage(offset, size + 1));
+                boolean hasNext = rows.size() > size;
+                if (hasNext) {
+                    rows.remove(size);
+                }
+                return PageResponse.ofSlice(rows, page, size, hasNext);
+            }
+            case ESTIMATED -> {
+                // Planner statistics only describe all live rows
+                Long estimate = isFiltered(request) ? null : searchQueryExecutor.estimateRowCount(entityType);
+                if (estimate != null) {
+                    List<R> rows = new ArrayList<>(queries.findPage(offset, size + 1));
+                    boolean hasNext = rows.size() > size;
+                    if (hasNext) {
+                        rows.remove(size);
+                    }
+                    long total = Math.max(estimate, offset + rows.size());
+                    return PageResponse.of(rows, page, size, total, hasNext, CountMode.ESTIMATED);
+                }
+                return searchWithWindowCount(queries, page, size);
+            }
+            case WINDOW -> {
+                return searchWithWindowCount(queries, page, size);
+            }
+            default -> {
+                ParallelPageLoader.PageWithTotal<R> parallel = parallelPageLoader.load(
+                        () -> queries.findPage(offset, size), queries::count,
+                        rows -> totalFromShortPage(rows, offset, size));
+                if (parallel != null) {
+                    return PageResponse.of(parallel.rows(), page, size, parallel.total(),
+                            offset + parallel.rows().size() < parallel.total(), CountMode.EXACT);
+                }
+
+                List<R> rows = queries.findPage(offset, size);
+                Long known = totalFromShortPage(rows, offset, size);
+                long total = known != null ? known : queries.count();
+                return PageResponse.of(rows, page, size, total, offset + rows.size() < total, CountMode.EXACT);
+            }
+        }
+    }
+
+    /**
+     * A short page already tells the total, as it does for Spring Data.
+     */
+    private static Long totalFromShortPage(List<?> rows, long offset, int size) {
+        return rows.size() < size && (offset == 0 || !rows.isEmpty()) ? offset + rows.size() : null;
+    }
+
+    private <R> PageResponse<R> searchWithWindowCount(SearchQueries<R> queries, int page, int size) {
+        long offset = (long) page * size;
+        SearchQueryExecutor.WindowedPage<R> result = queries.findPageWithTotal(offset, size);
+
+        // A page past the end carries no row to read the total from
+        long total = result.total() != null
+                ? result.total()
+                : offset == 0 ? 0 : queries.count();
+        return PageResponse.of(result.rows(), page, size, total, offset + result.rows().size() < total,
+                CountMode.WINDOW);
+    }
+
+    private boolean isFiltered(PaginationRequest request) {
+        return (request.getSearch() != null && !request.getSearch().isEmpty())
+                || !request.getFilters().isEmpty();
+    }
+
+    /**
+     * Keyset pagination: seeks past the cursor's boundary row instead of
+     * skipping rows. Previous pages are read in reverse order.
+     */
+    private CursorCodec.Cursor decodeCursor(PaginationRequest request, Sort sort, SearchSchema<?> schema) {
+        return request.getCursor() != null ? CursorCodec.decode(request.getCursor(), sort, schema) : null;
+    }
+
+    private <T> Specification<T> keysetSpecification(Specification<T> spec, Sort sort, CursorCodec.Cursor cursor) {
+        if (cursor == null) {
+            return spec;
+        }
+        return spec.and(new KeysetSpecification<>(sort, cursor.values(), cursor.backward()));
+    }
+
+    private boolean isBackward(CursorCodec.Cursor cursor) {
+        return cursor != null && cursor.backward();
+    }
+
+    /**
+     * Builds a cursor page from rows fetched one past the page size, so the
+     * extra row tells whether another page exists. Rows of a previous page
+     * arrive reversed and are flipped back.
+     */
+    private <R> PageResponse<R> cursorPage(PaginationRequest request, Sort sort, CursorCodec.Cursor cursor,
+            List<R> fetched) {
+        int size = request.getSize();
+        boolean backward = isBackward(cursor);
+        List<R> rows = new ArrayList<>(fetched);
+
+        boolean more = rows.size() > size;
+        if (more) {
+            rows.remove(size);
+        }
+        if (backward) {
+            Collections.reverse(rows);
+        }
+
+        // Coming back from a later page, there is always a next page
+        boolean hasNext = backward || more;
+        boolean hasPrevious = backward ? more : request.getCursor() != null;
+
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? CursorCodec.encode(false, sort, sortValues(rows.get(rows.size() - 1), sort))
+                : null;
+        String previousCursor = hasPrevious && !rows.isEmpty()
+                ? CursorCodec.encode(true, sort, sortValues(rows.get(0), sort))
+                : null;
+
+        return PageResponse.ofCursor(rows, size, hasNext, nextCursor, previousCursor);
+    }
+
+    private static Sort withTieBreaker(Sort sort) {
+        if (sort.getOrderFor(ID_FIELD) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, ID_FIELD));
+    }
+
+    private Sort reverse(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC))
+                .toList());
+    }
+
+    private List<Object> sortValues(Object row, Sort sort) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        List<Object> values = new ArrayList<>();
+        sort.forEach(order -> values.add(wrapper.getPropertyValue(order.getProperty())));
+        return values;
+    }
+
     /**
      * Validates the pagination request.
      * 
-     * @param request      The request to validate
-     * @param fieldConfigs The allowed field configurations
+     * @param request The request to validate
+     * @param schema  The compiled field whitelist
      * @throws IllegalArgumentException if validation fails
      */
-    private void validateRequest(PaginationRequest request, List<FieldConfig> fieldConfigs) {
+    private void validateRequest(PaginationRequest request, SearchSchema<?> schema) {
         // Note: request should never be null at this point as it's handled above
         // but keeping check for safety
         if (request == null) {
@@ -93,45 +354,14 @@ public class PaginationServiceImpl implements PaginationService {
                     String.format("Page size cannot exceed %d", MAX_PAGE_SIZE));
         }
 
-        // Validate field configurations
-        if (fieldConfigs == null || fieldConfigs.isEmpty()) {
-            throw new IllegalArgumentException("Field configurations cannot be null or empty");
-        }
-
-        // Validate sort fields
-        if (request.getSorts() != null && !request.getSorts().isEmpty()) {
-            List<String> allowedFields = fieldConfigs.stream()
-                    .map(FieldConfig::getName)
-                    .toList();
-
-            List<String> invalidSortFields = request.getSorts().stream()
-                    .map(sort -> sort.getField())
-                    .filter(field -> !allowedFields.contains(field))
-                    .toList();
-
-            if (!invalidSortFields.isEmpty()) {
-                throw new IllegalArgumentException(
-                        String.format("Invalid sort fields: %s. Allowed fields: %s",
-                                invalidSortFields, allowedFields));
-            }
+        // Deep offsets scan and discard every skipped row
+        if (!request.isCursorMode() && (long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException(
+                    String.format("Offset pagination is limited to the first %d rows; use mode CURSOR "
+                            + "and follow nextCursor to read further", MAX_OFFSET));
         }
 
-        // Validate filter fields
-        if (request.getFilters() != null && !request.getFilters().isEmpty()) {
-            List<String> allowedFilterFields = fieldConfigs.stream()
-                    .filter(FieldConfig::isFilterable)
-                    .map(FieldConfig::getName)
-                    .toList();
-
-            List<String> invalidFilterFields = request.getFilters().keySet().stream()
-                    .filter(field -> !allowedFilterFields.contains(field))
-                    .toList();
-
-            if (!invalidFilterFields.isEmpty()) {
-                throw new IllegalArgumentException(
-                        String.format("Invalid filter fields: %s. Allowed filterable fields: %s",
-                                invalidFilterFields, allowedFilterFields));
-            }
-        }
+        // Validate sort and filter fields
+        schema.validate(request);
     }
 }
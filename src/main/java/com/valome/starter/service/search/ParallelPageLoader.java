@@ -0,0 +1,181 @@
+package com.valome.starter.service.search;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.valome.starter.config.ParallelCountProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a count query on a virtual thread while the caller runs the page
+ * query.
+ *
+ * The page is read on the caller's thread, in the caller's transaction and
+ * on the connection it already holds; the count gets its own read-only
+ * transaction and pooled connection. The total arrives in about the time of
+ * the slower query instead of the sum of both, with two connections per
+ * search: the caller's and the count's.
+ *
+ * A semaphore caps the searches running this way, each permit standing for
+ * one connection beyond the caller's. A permit is held until the count
+ * ends, even when a short page made its result unnecessary. When no permit
+ * is free the caller runs the queries itself; fallbacks are counted as
+ * {@code search.parallel.fallback}.
+ */
+@Component
+@Slf4j
+public class ParallelPageLoader {
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate transactionTemplate;
+    private final Counter fallbacks;
+
+    /**
+     * Rows of one page and the total of the filtered set.
+     */
+    public record PageWithTotal<R>(List<R> rows, long total) {
+    }
+
+    public ParallelPageLoader(ParallelCountProperties properties, DataSource dataSource,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.permits = new Semaphore(maxConcurrent(properties, dataSource));
+        this.acquireTimeoutMillis = properties.getAcquireTimeout().toMillis();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fallbacks = Counter.builder("search.parallel.fallback")
+                .description("EXACT searches run sequentially because no parallel permit was free")
+                .register(meterRegistry);
+        if (enabled) {
+            log.info("Parallel page and count queries enabled for up to {} concurrent searches",
+                    permits.availablePermits());
+        }
+    }
+
+    /**
+     * Runs the count concurrently with the page if enabled and a permit is
+     * free.
+     *
+     * @param page          the page query, run on the calling thread
+     * @param count         the count query
+     * @param totalFromPage the total if the page alone tells it, e.g. a
+     *                      short last page, otherwise null
+     * @return the page and total, or null if the caller should run the
+     *         queries sequentially
+     */
+    public <R> PageWithTotal<R> load(Supplier<List<R>> page, LongSupplier count,
+            Function<List<R>, Long> totalFromPage) {
+        if (!enabled || !tryAcquire()) {
+            if (enabled) {
+                fallbacks.increment();
+            }
+            return null;
+        }
+
+        // Statements of the count belong to the caller's search trace
+        SearchTrace trace = SearchTrace.current();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Future<Long> total;
+        try {
+            total = executor.submit(() -> {
+                try {
+                    if (abandoned.get()) {
+                        return null;
+                    }
+                    return SearchTrace.run(trace, () -> transactionTemplate.execute(status -> count.getAsLong()));
+                } finally {
+                    // Released only once the count no longer holds a connection
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        List<R> rows;
+        try {
+            rows = page.get();
+        } catch (RuntimeException e) {
+            abandoned.set(true);
+            throw e;
+        }
+
+        Long known = totalFromPage.apply(rows);
+        if (known != null) {
+            // Skipped if not started yet; otherwise finishes in the background
+            abandoned.set(true);
+            return new PageWithTotal<>(rows, known);
+        }
+        return new PageWithTotal<>(rows, await(total));
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Waits for a query, rethrowing its failure as is.
+     */
+    private static <V> V await(Future<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for search query", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static int maxConcurrent(ParallelCountProperties properties, DataSource dataSource) {
+        if (properties.getMaxConcurrent() > 0) {
+            return properties.getMaxConcurrent();
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 4);
+            }
+        } catch (SQLException e) {
+            log.debug("Could not read the connection pool size", e);
+        }
+        return 1;
+    }
+}
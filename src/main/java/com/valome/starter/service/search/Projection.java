@@ -0,0 +1,137 @@
+package com.valome.starter.service.search;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * What a search selects and how each row becomes a result.
+ *
+ * {@link #entity(Class)} selects the managed entity. {@link #of} selects only
+ * the listed attributes and passes them, in order, to the result type's
+ * constructor with that many parameters, resolved once here: no entity is
+ * instantiated, put in the persistence context or mapped a second time.
+ * {@link #attribute} selects one attribute as the result itself, such as the
+ * ids of a page.
+ *
+ * For cursor pagination the result type must expose every sortable field,
+ * including {@code id}, as a readable property of the same name.
+ */
+public final class Projection<T, R> {
+    private final Class<R> resultType;
+    private final List<String> attributes;
+    private final Constructor<R> constructor;
+
+    private Projection(Class<R> resultType, List<String> attributes, Constructor<R> constructor) {
+        this.resultType = resultType;
+        this.attributes = attributes;
+        this.constructor = constructor;
+    }
+
+    public static <T> Projection<T, T> entity(Class<T> entityType) {
+        return new Projection<>(entityType, null, null);
+    }
+
+    /**
+     * @param entityType the searched entity
+     * @param valueType  the attribute's Java type
+     * @param attribute  the entity attribute selected as the result
+     */
+    public static <T, V> Projection<T, V> attribute(Class<T> entityType, Class<V> valueType, String attribute) {
+        return new Projection<>(valueType, List.of(attribute), null);
+    }
+
+    /**
+     * @param entityType the searched entity
+     * @param resultType the DTO built from each row
+     * @param attributes the entity attributes passed to the DTO constructor,
+     *                   in parameter order
+     * @throws IllegalStateException if the DTO has no single constructor
+     *                               taking that many parameters
+     */
+    public static <T, R> Projection<T, R> of(Class<T> entityType, Class<R> resultType, String... attributes) {
+        List<Constructor<?>> candidates = Arrays.stream(resultType.getConstructors())
+                .filter(candidate -> candidate.getParameterCount() == attributes.length)
+                .toList();
+        if (candidates.size() != 1) {
+            throw new IllegalStateException(String.format("%s needs exactly one public constructor taking the %d "
+                    + "projected attributes of %s", resultType.getSimpleName(), attributes.length,
+                    entityType.getSimpleName()));
+        }
+
+        @SuppressWarnings("unchecked")
+        Constructor<R> constructor = (Constructor<R>) candidates.get(0);
+        return new Projection<>(resultType, List.of(attributes), constructor);
+    }
+
+    public Class<R> getResultType() {
+        return resultType;
+    }
+
+    /**
+     * The selected attribute names, or null when the entity is selected.
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * The selections of one row.
+     */
+    List<Selection<?>> select(Root<T> root) {
+        if (attributes == null) {
+            return List.<Selection<?>>of(root);
+        }
+        return attributes.stream().<Selection<?>>map(root::get).toList();
+    }
+
+    /**
+     * Number of tuple elements taken by {@link #select(Root)}; any further
+     * elements are left to the caller.
+     */
+    int width() {
+        return attributes == null ? 1 : attributes.size();
+    }
+
+    R read(Tuple tuple) {
+        if (constructor == null && attributes == null) {
+            return tuple.get(0, resultType);
+        }
+
+        Object[] values = new Object[attributes.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = tuple.get(i);
+        }
+        return create(values);
+    }
+
+    /**
+     * Java type expected for the selected attribute at {@code index}, as
+     * taken by the result constructor. Used by {@link NativeSearchEngine} to
+     * read columns without a tuple.
+     */
+    Class<?> valueType(int index) {
+        return constructor == null ? resultType : constructor.getParameterTypes()[index];
+    }
+
+    /**
+     * Builds a result from the selected attribute values, in order.
+     */
+    R create(Object[] values) {
+        if (constructor == null) {
+            return resultType.cast(values[0]);
+        }
+        try {
+            return constructor.newInstance(values);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Cannot build " + resultType.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot build " + resultType.getSimpleName() + " from " + attributes, e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.valome.starter.service.search;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.valome.starter.dto.search.ExportFormat;
+import com.valome.starter.dto.search.PaginationRequest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes every row matching a search to the response as NDJSON or CSV.
+ *
+ * The request's search, filters and sorts are applied exactly as in
+ * {@link PaginationService}; paging fields are ignored. Rows come from a
+ * forward-only cursor inside one read-only transaction and are written as
+ * they arrive, and the persistence context is cleared every
+ * {@value #FETCH_SIZE} rows, so heap use does not grow with the row count.
+ *
+ * Works for any entity with a {@link SearchSchema}; CSV needs a column
+ * projection, NDJSON also accepts {@link Projection#entity(Class)}. Text
+ * values are user input, so in CSV those starting with {@code =}, {@code +},
+ * {@code -}, {@code @}, tab or carriage return get a leading {@code '} and
+ * open as text rather than formulas (CSV injection); NDJSON is unchanged.
+ */
+@Component
+@Slf4j
+public class SearchExporter {
+    // Rows per round trip; also how often the persistence context is cleared
+    static final int FETCH_SIZE = 500;
+
+    private final SearchQueryExecutor searchQueryExecutor;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+
+    public SearchExporter(SearchQueryExecutor searchQueryExecutor, EntityManager entityManager,
+            PlatformTransactionManager transactionManager, JsonMapper jsonMapper) {
+        this.searchQueryExecutor = searchQueryExecutor;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Validates the request and returns the body that streams the export.
+     * Invalid requests fail here, before the response is committed.
+     *
+     * @throws IllegalArgumentException if a field, operator or value is
+     *                                  invalid, or CSV is asked for an entity
+     *                                  projection
+     */
+    public <T, R> StreamingResponseBody export(PaginationRequest request, SearchSchema<T> schema,
+            Projection<T, R> projection, ExportFormat format) {
+        PaginationRequest initialized = request != null
+                ? request.ensureInitialized()
+                : PaginationRequest.createDefault();
+        schema.validate(initialized);
+        if (format == ExportFormat.CSV && projection.getAttributes() == null) {
+            throw new IllegalArgumentException("CSV export needs a column projection");
+        }
+
+        Specification<T> spec = PaginationServiceImpl.specification(initialized, schema);
+        Sort sort = PaginationServiceImpl.sort(initialized, schema);
+
+        return out -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Tuple> rows = searchQueryExecutor.stream(schema.getEntityType(), spec, sort, projection,
+                    FETCH_SIZE)) {
+                long written = format == ExportFormat.CSV
+                        ? writeCsv(rows.iterator(), projection, out)
+                        : writeNdjson(rows.iterator(), projection, out);
+                log.info("Exported {} {} row(s) as {}", written, schema.getEntityType().getSimpleName(), format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <R> long writeNdjson(Iterator<Tuple> rows, Projection<?, R> projection, OutputStream out)
+            throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            out.write(jsonMapper.writeValueAsBytes(projection.read(rows.next())));
+            out.write('\n');
+            if (++count % FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Tuple> rows, Projection<?, ?> projection, OutputStream out) throws IOException {
+        List<String> columns = projection.getAttributes();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, columns.toArray());
+
+        long count = 0;
+        Object[] values = new Object[columns.size()];
+        while (rows.hasNext()) {
+            Tuple tuple = rows.next();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = tuple.get(i);
+            }
+            writeCsvRow(writer, values);
+            if (++count % FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof BigDecimal decimal) {
+                writer.write(decimal.toPlainString());
+            } else if (values[i] instanceof CharSequence text) {
+                writer.write(escapeCsv(neutralizeFormula(text.toString())));
+            } else if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Spreadsheet tools evaluate cells starting with these characters as
+     * formulas; a leading apostrophe makes them plain text.
+     */
+    private static String neutralizeFormula(String value) {
+        return !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,23 @@
+package com.valome.starter.service.search;
+
+import java.util.List;
+
+/**
+ * The queries of one search, bound to its filters, sort and result shape.
+ *
+ * {@link PaginationServiceImpl} builds pages and totals from these without
+ * knowing how the SQL is produced: through the Criteria API by
+ * {@link SearchQueryExecutor}, or as plain parameterized SQL by
+ * {@link NativeSearchEngine}.
+ */
+interface SearchQueries<R> {
+
+    List<R> findPage(long offset, int limit);
+
+    /**
+     * A page and the total of the filtered set in one statement.
+     */
+    SearchQueryExecutor.WindowedPage<R> findPageWithTotal(long offset, int limit);
+
+    long count();
+}
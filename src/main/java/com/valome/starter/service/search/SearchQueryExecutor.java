@@ -0,0 +1,251 @@
+package com.valome.starter.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Graph;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Table;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs specification queries that Spring Data repositories cannot express:
+ * an offset page without the count query, a page carrying its total through
+ * {@code count(*) over()}, a batch of entities by id with their
+ * associations, and planner row estimates. Pages select either the entity or
+ * the columns of a {@link Projection}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchQueryExecutor {
+    private static final String ID_ATTRIBUTE = "id";
+
+    // Partial index on live rows from V3__filter_indexes.sql
+    private static final String LIVE_ROWS_INDEX_SUFFIX = "_idx_created_at";
+
+    private final EntityManager entityManager;
+
+    /**
+     * A page of rows with the total of the filtered set, or a null total when
+     * the page is empty.
+     */
+    public record WindowedPage<T>(List<T> rows, Long total) {
+    }
+
+    /**
+     * The queries of one search over the Criteria API.
+     */
+    <T, R> SearchQueries<R> queries(Class<T> type, Specification<T> spec, Sort sort, Projection<T, R> projection) {
+        return new SearchQueries<>() {
+            @Override
+            public List<R> findPage(long offset, int limit) {
+                return SearchQueryExecutor.this.findPage(type, spec, sort, offset, limit, projection);
+            }
+
+            @Override
+            public WindowedPage<R> findPageWithTotal(long offset, int limit) {
+                return SearchQueryExecutor.this.findPageWithTotal(type, spec, sort, offset, limit, projection);
+            }
+
+            @Override
+            public long count() {
+                return SearchQueryExecutor.this.count(type, spec);
+            }
+        };
+    }
+
+    public <T> List<T> findPage(Class<T> type, Specification<T> spec, Sort sort, long offset, int limit) {
+        return findPage(type, spec, sort, offset, limit, Projection.entity(type));
+    }
+
+    /**
+     * Fetches a page of rows shaped by the projection.
+     */
+    public <T, R> List<R> findPage(Class<T> type, Specification<T> spec, Sort sort, long offset, int limit,
+            Projection<T, R> projection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+
+        applyWhere(query, root, cb, spec);
+        query.multiselect(projection.select(root)).orderBy(orders(query, root, cb, sort));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(projection::read)
+                .toList();
+    }
+
+    public <T> WindowedPage<T> findPageWithTotal(Class<T> type, Specification<T> spec, Sort sort, long offset,
+            int limit) {
+        return findPageWithTotal(type, spec, sort, offset, limit, Projection.entity(type));
+    }
+
+    /**
+     * Fetches a page and the total in one statement. The window aggregate is
+     * evaluated before LIMIT/OFFSET, so every row carries the full count.
+     */
+    public <T, R> WindowedPage<R> findPageWithTotal(Class<T> type, Specification<T> spec, Sort sort, long offset,
+            int limit, Projection<T, R> projection) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+
+        applyWhere(query, root, cb, spec);
+        List<Selection<?>> selections = new ArrayList<>(projection.select(root));
+        selections.add(cb.windowFunction("count", Long.class, cb.createWindow(), cb.literal(1)));
+        query.multiselect(selections).orderBy(orders(query, root, cb, sort));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<R> rows = tuples.stream().map(projection::read).toList();
+        Long total = tuples.isEmpty() ? null : tuples.get(0).get(projection.width(), Long.class);
+        return new WindowedPage<>(rows, total);
+    }
+
+    /**
+     * Streams every matching row as a tuple shaped by the projection, from a
+     * forward-only cursor fetching {@code fetchSize} rows per round trip.
+     * Must run inside a transaction (PostgreSQL only uses a cursor when
+     * autocommit is off), and the stream must be closed.
+     */
+    public <T> Stream<Tuple> stream(Class<T> type, Specification<T> spec, Sort sort, Projection<T, ?> projection,
+            int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+
+        applyWhere(query, root, cb, spec);
+        query.multiselect(projection.select(root)).orderBy(orders(query, root, cb, sort));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Loads the entities with the given ids in one query, together with the
+     * associations named by {@code fetchPaths} (dotted for nested ones, as in
+     * {@code @EntityGraph}). Rows come back in the order of {@code ids}; ids
+     * without a row are skipped.
+     */
+    public <T> List<T> findAllById(Class<T> type, List<?> ids, String... fetchPaths) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        EntityGraph<T> graph = entityManager.createEntityGraph(type);
+        for (String path : fetchPaths) {
+            addPath(graph, path);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root).where(root.get(ID_ATTRIBUTE).in(ids));
+
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, T> byId = new HashMap<>();
+        for (T row : entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, graph)
+                .getResultList()) {
+            byId.put(util.getIdentifier(row), row);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public <T> long count(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(type);
+
+        applyWhere(query, root, cb, spec);
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Returns the planner's estimate of the entity's live rows, or null if
+     * it has none.
+     *
+     * The table's own reltuples counts soft-deleted rows too, so the
+     * estimate is read from the {@code <table>_idx_created_at} index, which
+     * is partial on {@code deleted_at IS NULL}. Tables without that index
+     * have no estimate.
+     */
+    public Long estimateRowCount(Class<?> type) {
+        Table table = type.getAnnotation(Table.class);
+        if (table == null || table.name().isEmpty()) {
+            return null;
+        }
+
+        Object estimate = entityManager
+                .createNativeQuery("SELECT CAST(c.reltuples AS bigint) FROM pg_class c "
+                        + "JOIN pg_index i ON i.indexrelid = c.oid "
+                        + "WHERE c.oid = to_regclass(?1) AND i.indpred IS NOT NULL")
+                .setParameter(1, table.name() + LIVE_ROWS_INDEX_SUFFIX)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+
+        // reltuples is -1 until the first VACUUM/ANALYZE
+        if (!(estimate instanceof Number number) || number.longValue() < 0) {
+            return null;
+        }
+        return number.longValue();
+    }
+
+    /**
+     * Orders set by the specification (relevance ranking) come first, then
+     * the requested sort.
+     */
+    private List<Order> orders(CriteriaQuery<?> query, Root<?> root, CriteriaBuilder cb, Sort sort) {
+        List<Order> orders = new ArrayList<>(query.getOrderList());
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        return orders;
+    }
+
+    private static void addPath(Graph<?> graph, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            graph.addAttributeNodes(path);
+            return;
+        }
+        addPath(graph.addSubgraph(path.substring(0, dot)), path.substring(dot + 1));
+    }
+
+    private <T> void applyWhere(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder cb, Specification<T> spec) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
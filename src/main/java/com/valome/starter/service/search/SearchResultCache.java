@@ -0,0 +1,189 @@
+package com.valome.starter.service.search;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.valome.starter.config.SearchCacheProperties;
+import com.valome.starter.dto.search.CountMode;
+import com.valome.starter.dto.search.PageResponse;
+import com.valome.starter.dto.search.PaginationMode;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SortRequest;
+import com.valome.starter.util.TransactionUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of projected search pages.
+ *
+ * Keys are the normalized request (trimmed search, filters sorted by field,
+ * canonical sort directions, page, size, mode, cursor, count mode) plus the
+ * entity type, result type and the entity's current generation. Services bump
+ * the generation after a write commits, so later searches build new keys and
+ * entries made before the write are never served again; they age out of the
+ * cache by size or TTL.
+ *
+ * Only projected DTO pages are cached; managed entities belong to the session
+ * that loaded them. Cached pages are shared and must not be modified.
+ *
+ * Besides the {@code cache.*} metrics ({@code cache=search-results}), the hit
+ * ratio, entry count and estimated size are published as
+ * {@code search.cache.hit.ratio}, {@code search.cache.entries} and
+ * {@code search.cache.memory.estimate}.
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+
+    private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                fields.add(field);
+            }, field -> !Modifier.isStatic(field.getModifiers()));
+            return List.copyOf(fields);
+        }
+    };
+
+    private final boolean enabled;
+    private final Cache<Key, PageResponse<?>> cache;
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    record Key(Class<?> entityType, Class<?> resultType, long generation, String search,
+            Map<String, Object> filters, List<String> sorts, int page, int size, PaginationMode mode,
+            String cursor, CountMode countMode) {
+    }
+
+    public SearchResultCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((Key key, PageResponse<?> page) -> estimateSize(page))
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search-results");
+        Gauge.builder("search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of search lookups served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.entries", cache, Cache::estimatedSize)
+                .description("Cached search pages")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.memory.estimate", cache,
+                c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Estimated heap held by cached search pages")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached page for the request, or runs the search and caches
+     * its result. Failed searches are not cached, and explain requests
+     * always run so their plans describe a real execution.
+     *
+     * @param request an initialized, validated request
+     */
+    @SuppressWarnings("unchecked")
+    public <R> PageResponse<R> get(Class<?> entityType, Class<R> resultType, PaginationRequest request,
+            Supplier<PageResponse<R>> search) {
+        if (!enabled || request.isExplain()) {
+            return search.get();
+        }
+
+        Key key = key(entityType, resultType, request);
+        PageResponse<R> cached = (PageResponse<R>) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        PageResponse<R> result = search.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Moves the entity type to a new generation once the current transaction
+     * commits. Bumping earlier would let a search running before the commit
+     * cache the old rows under the new generation.
+     */
+    public void invalidateAfterCommit(Class<?> entityType) {
+        TransactionUtils.afterCommit(() -> {
+            long generation = generation(entityType).incrementAndGet();
+            log.debug("Search cache generation of {} is now {}", entityType.getSimpleName(), generation);
+        });
+    }
+
+    private AtomicLong generation(Class<?> entityType) {
+        return generations.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+
+    private Key key(Class<?> entityType, Class<?> resultType, PaginationRequest request) {
+        String search = request.getSearch() != null && !request.getSearch().isBlank()
+                ? request.getSearch().trim()
+                : null;
+
+        List<String> sorts = new ArrayList<>(request.getSorts().size());
+        for (SortRequest sort : request.getSorts()) {
+            sorts.add(sort.getField() + ("desc".equalsIgnoreCase(sort.getDirection()) ? ":desc" : ":asc"));
+        }
+
+        return new Key(entityType, resultType, generation(entityType).get(), search,
+                new TreeMap<>(request.getFilters()), List.copyOf(sorts), request.getPage(), request.getSize(),
+                request.isCursorMode() ? PaginationMode.CURSOR : PaginationMode.OFFSET, request.getCursor(),
+                request.isCursorMode() ? null : request.getCountMode());
+    }
+
+    /**
+     * Rough retained size of a page: object headers, references and
+     * character data of each row's fields, one level deep.
+     */
+    private static int estimateSize(PageResponse<?> page) {
+        long size = ENTRY_OVERHEAD;
+        for (Object row : page.getContent()) {
+            size += OBJECT_OVERHEAD;
+            for (Field field : INSTANCE_FIELDS.get(row.getClass())) {
+                size += REFERENCE_SIZE + estimateValue(ReflectionUtils.getField(field, row));
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long estimateValue(Object value) {
+        if (value == null || value instanceof Boolean || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return 40 + string.length();
+        }
+        if (value instanceof BigDecimal) {
+            return 48;
+        }
+        if (value instanceof Temporal) {
+            return 48;
+        }
+        return OBJECT_OVERHEAD + 8;
+    }
+}
@@ -0,0 +1,276 @@
+package com.valome.starter.service.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.valome.starter.dto.search.FieldConfig;
+import com.valome.starter.dto.search.FilterOperator;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SearchMode;
+import com.valome.starter.dto.search.SortRequest;
+
+/**
+ * Immutable search whitelist of one entity, compiled once from its
+ * {@code PAGINATION_FIELDS}.
+ *
+ * Fields are looked up by name in a hash map, searchable string fields are
+ * pre-collected, and every field carries the converter for its type, so
+ * translating a request costs no list scans and no type dispatch.
+ *
+ * @param <T> the entity type
+ */
+public final class SearchSchema<T> {
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Entity attribute holding the tsvector that FULL_TEXT fields feed.
+     */
+    public static final String SEARCH_VECTOR_FIELD = "searchVector";
+
+    private static final Map<Class<?>, Function<Object, Object>> CONVERTERS = Map.of(
+            String.class, Object::toString,
+            Integer.class, value -> Integer.valueOf(value.toString()),
+            Long.class, value -> Long.valueOf(value.toString()),
+            Boolean.class, value -> Boolean.valueOf(value.toString()),
+            Double.class, value -> Double.valueOf(value.toString()),
+            BigDecimal.class, value -> new BigDecimal(value.toString()),
+            LocalDateTime.class, value -> LocalDateTime.parse(value.toString()),
+            LocalDate.class, value -> LocalDate.parse(value.toString()));
+
+    private final Class<T> entityType;
+    private final Map<String, Field> fields;
+    private final List<Field> likeSearchFields;
+    private final boolean fullTextSearch;
+    private final List<String> allowedFields;
+    private final List<String> allowedFilterFields;
+    private final Field idField;
+
+    /**
+     * A whitelisted field with its precomputed converter.
+     */
+    public record Field(String name, Class<?> type, boolean searchable, boolean filterable,
+            SearchMode searchMode, Set<FilterOperator> operators, Function<Object, Object> converter) {
+
+        public boolean allows(FilterOperator operator) {
+            return operators.contains(operator);
+        }
+
+        /**
+         * Converts a request value (JSON scalar or string) to the field type.
+         *
+         * @throws IllegalArgumentException if the value cannot be converted
+         */
+        public Object convert(Object value) {
+            if (value == null || type.isInstance(value)) {
+                return value;
+            }
+            try {
+                return converter.apply(value);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid value for field '%s': %s", name, value));
+            }
+        }
+    }
+
+    private SearchSchema(Class<T> entityType, List<FieldConfig> fieldConfigs) {
+        if (fieldConfigs == null || fieldConfigs.isEmpty()) {
+            throw new IllegalArgumentException("Field configurations cannot be null or empty");
+        }
+
+        Map<String, Field> compiled = new LinkedHashMap<>();
+        for (FieldConfig config : fieldConfigs) {
+            SearchMode searchMode = config.getSearchMode() != null ? config.getSearchMode() : SearchMode.LIKE;
+            compiled.put(config.getName(), new Field(config.getName(), config.getType(),
+                    config.isSearchable(), config.isFilterable(), searchMode,
+                    operatorsFor(config), converterFor(config.getType())));
+        }
+
+        List<Field> searchable = compiled.values().stream()
+                .filter(Field::searchable)
+                .filter(field -> field.type() == String.class)
+                .toList();
+
+        this.entityType = entityType;
+        this.fields = Collections.unmodifiableMap(compiled);
+        this.likeSearchFields = searchable.stream()
+                .filter(field -> field.searchMode() != SearchMode.FULL_TEXT)
+                .toList();
+        this.fullTextSearch = searchable.stream()
+                .anyMatch(field -> field.searchMode() == SearchMode.FULL_TEXT);
+        if (fullTextSearch) {
+            requireSearchVector(entityType);
+        }
+        this.allowedFields = List.copyOf(compiled.keySet());
+        this.allowedFilterFields = compiled.values().stream()
+                .filter(Field::filterable)
+                .map(Field::name)
+                .toList();
+        this.idField = new Field(ID_FIELD, Long.class, false, false, SearchMode.LIKE, Set.of(),
+                CONVERTERS.get(Long.class));
+    }
+
+    public static <T> SearchSchema<T> compile(Class<T> entityType, List<FieldConfig> fieldConfigs) {
+        return new SearchSchema<>(entityType, fieldConfigs);
+    }
+
+    public Class<T> getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Returns the whitelisted field, or null if the name is not allowed.
+     */
+    public Field field(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * Like {@link #field(String)} but also resolves the implicit {@code id}
+     * used as sort tie-breaker.
+     */
+    public Field sortKey(String name) {
+        return ID_FIELD.equals(name) ? idField : fields.get(name);
+    }
+
+    /**
+     * String fields searched with {@code lower(field) LIKE}, including those
+     * backed by trigram indexes.
+     */
+    public List<Field> likeSearchFields() {
+        return likeSearchFields;
+    }
+
+    /**
+     * Whether global search also matches the entity's {@code searchVector}.
+     */
+    public boolean isFullTextSearch() {
+        return fullTextSearch;
+    }
+
+    /**
+     * Validates sort and filter field names against the whitelist.
+     *
+     * @throws IllegalArgumentException listing the invalid and allowed fields
+     */
+    public void validate(PaginationRequest request) {
+        List<SortRequest> sorts = request.getSorts();
+        if (sorts != null && !sorts.isEmpty()) {
+            List<String> invalidSortFields = sorts.stream()
+                    .map(SortRequest::getField)
+                    .filter(name -> !fields.containsKey(name))
+                    .toList();
+
+            if (!invalidSortFields.isEmpty()) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid sort fields: %s. Allowed fields: %s",
+                                invalidSortFields, allowedFields));
+            }
+        }
+
+        Map<String, Object> filters = request.getFilters();
+        if (filters != null && !filters.isEmpty()) {
+            List<String> invalidFilterFields = filters.keySet().stream()
+                    .filter(name -> {
+                        Field field = fields.get(name);
+                        return field == null || !field.filterable();
+                    })
+                    .toList();
+
+            if (!invalidFilterFields.isEmpty()) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid filter fields: %s. Allowed filterable fields: %s",
+                                invalidFilterFields, allowedFilterFields));
+            }
+        }
+    }
+
+    private static void requireSearchVector(Class<?> entityType) {
+        for (Class<?> type = entityType; type != null; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredField(SEARCH_VECTOR_FIELD);
+                return;
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        throw new IllegalStateException(entityType.getSimpleName()
+                + " has FULL_TEXT search fields but no " + SEARCH_VECTOR_FIELD + " attribute");
+    }
+
+    /**
+     * The configured operators, checked against the field type, or the
+     * defaults: text operators for strings, ranges for other comparable
+     * types, equality only for booleans and enums.
+     */
+    private static Set<FilterOperator> operatorsFor(FieldConfig config) {
+        Class<?> type = box(config.getType());
+        boolean text = type == String.class;
+        boolean ordered = Comparable.class.isAssignableFrom(type) && type != Boolean.class && !type.isEnum();
+
+        if (config.getOperators() == null) {
+            if (text) {
+                return Collections.unmodifiableSet(EnumSet.of(FilterOperator.EQ, FilterOperator.IN,
+                        FilterOperator.STARTS_WITH, FilterOperator.CONTAINS, FilterOperator.IS_NULL));
+            }
+            if (ordered) {
+                return Collections.unmodifiableSet(EnumSet.of(FilterOperator.EQ, FilterOperator.IN,
+                        FilterOperator.GTE, FilterOperator.LTE, FilterOperator.BETWEEN, FilterOperator.IS_NULL));
+            }
+            return type == Boolean.class
+                    ? Collections.unmodifiableSet(EnumSet.of(FilterOperator.EQ, FilterOperator.IS_NULL))
+                    : Collections.unmodifiableSet(EnumSet.of(FilterOperator.EQ, FilterOperator.IN,
+                            FilterOperator.IS_NULL));
+        }
+
+        for (FilterOperator operator : config.getOperators()) {
+            boolean supported = switch (operator) {
+                case STARTS_WITH, CONTAINS -> text;
+                case GTE, LTE, BETWEEN -> ordered;
+                default -> true;
+            };
+            if (!supported) {
+                throw new IllegalArgumentException(
+                        String.format("Filter operator '%s' is not supported for %s field '%s'",
+                                operator, type.getSimpleName(), config.getName()));
+            }
+        }
+        return Collections.unmodifiableSet(config.getOperators().isEmpty()
+                ? EnumSet.noneOf(FilterOperator.class)
+                : EnumSet.copyOf(config.getOperators()));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<Object, Object> converterFor(Class<?> type) {
+        Class<?> boxed = box(type);
+        Function<Object, Object> converter = CONVERTERS.get(boxed);
+        if (converter != null) {
+            return converter;
+        }
+        if (boxed.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) boxed;
+            return value -> Enum.valueOf(enumType, value.toString());
+        }
+        throw new IllegalArgumentException("Unsupported search field type: " + type.getName());
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == int.class)
+            return Integer.class;
+        if (type == long.class)
+            return Long.class;
+        if (type == boolean.class)
+            return Boolean.class;
+        if (type == double.class)
+            return Double.class;
+        return type;
+    }
+}
@@ -0,0 +1,97 @@
+package com.valome.starter.service.search;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Statements prepared while a search runs, with their bind values and
+ * execution time.
+ *
+ * A trace is bound to the thread running the search and handed on to the
+ * threads of {@link ParallelPageLoader}; {@link TracingDataSource} records
+ * every statement prepared while one is bound. Nothing is recorded otherwise.
+ */
+public final class SearchTrace {
+    private static final ThreadLocal<SearchTrace> CURRENT = new ThreadLocal<>();
+
+    private final List<Statement> statements = new CopyOnWriteArrayList<>();
+
+    /**
+     * One prepared statement. Written only by the thread executing it.
+     */
+    public static final class Statement {
+        private final String sql;
+        private final SortedMap<Integer, Object> binds = new TreeMap<>();
+        private long executionNanos;
+
+        Statement(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public SortedMap<Integer, Object> getBinds() {
+            return Collections.unmodifiableSortedMap(binds);
+        }
+
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        void bind(int index, Object value) {
+            binds.put(index, value);
+        }
+
+        void clearBinds() {
+            binds.clear();
+        }
+
+        void addExecutionNanos(long nanos) {
+            executionNanos += nanos;
+        }
+    }
+
+    /**
+     * The trace bound to the current thread, or null.
+     */
+    public static SearchTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given work with {@code trace} bound to the current thread,
+     * restoring the previous binding afterwards. A null trace runs it as is.
+     */
+    public static <V> V run(SearchTrace trace, Supplier<V> work) {
+        if (trace == null) {
+            return work.get();
+        }
+        SearchTrace previous = CURRENT.get();
+        CURRENT.set(trace);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public List<Statement> statements() {
+        return List.copyOf(statements);
+    }
+
+    Statement record(String sql) {
+        Statement statement = new Statement(sql);
+        statements.add(statement);
+        return statement;
+    }
+}
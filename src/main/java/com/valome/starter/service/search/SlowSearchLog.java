@@ -0,0 +1,252 @@
+package com.valome.starter.service.search;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.valome.starter.config.SlowSearchProperties;
+import com.valome.starter.dto.search.PageResponse;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.QueryPlan;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times searches and explains the slow ones.
+ *
+ * Each search runs with a {@link SearchTrace} bound, so the SQL and bind
+ * values Hibernate sends are known afterwards. A search slower than the
+ * threshold is logged at WARN with the shape of its request (filter fields
+ * and operators, sorts, paging; values left out), its statements and their
+ * timings, and counted as {@code search.slow}. Its SELECTs are then run
+ * again under {@code EXPLAIN (ANALYZE, BUFFERS)} on a single background
+ * thread; when that thread is behind, further plans are skipped rather than
+ * queued without bound.
+ *
+ * A request with {@code "explain": true} is explained synchronously and the
+ * plans are returned in {@link PageResponse#getPlans()}. Only holders of the
+ * configured authority may ask; EXPLAIN ANALYZE executes the query a second
+ * time. Statements are only traced while the log is enabled (see
+ * SearchTracingConfig), so explain requests need it too.
+ */
+@Component
+@Slf4j
+public class SlowSearchLog {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private final SlowSearchProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor explainExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public SlowSearchLog(SlowSearchProperties properties, DataSource dataSource,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.meterRegistry = meterRegistry;
+
+        // Own transaction, so SET LOCAL and a timed-out EXPLAIN never touch the caller's
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getExplainQueueCapacity())),
+                Thread.ofPlatform().name("slow-search-explain").daemon().factory(),
+                (task, executor) -> log.debug("Explain queue full; skipping slow search plan"));
+    }
+
+    /**
+     * Runs a search, logging it if slow and attaching plans if the request
+     * asked for them.
+     *
+     * @param request    an initialized, validated request
+     * @param entityType the searched entity, used in logs and metrics
+     * @param search     the search itself
+     * @throws AccessDeniedException    if the request asks for plans and the
+     *                                  caller lacks the explain authority
+     * @throws IllegalArgumentException if the request asks for plans while
+     *                                  the log is disabled
+     */
+    public <R> PageResponse<R> run(PaginationRequest request, Class<?> entityType,
+            Supplier<PageResponse<R>> search) {
+        boolean explain = request.isExplain();
+        if (explain) {
+            checkExplainAllowed();
+            if (!properties.isEnabled()) {
+                // Statements are only traced while the log is enabled
+                throw new IllegalArgumentException("Search explain requires search.slow-log.enabled=true");
+            }
+        } else if (!properties.isEnabled()) {
+            return search.get();
+        }
+
+        SearchTrace trace = new SearchTrace();
+        long start = System.nanoTime();
+        PageResponse<R> response = SearchTrace.run(trace, search);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (explain) {
+            response.setPlans(explain(trace.statements()));
+        } else if (elapsed.compareTo(properties.getThreshold()) >= 0) {
+            logSlowSearch(request, entityType, elapsed, trace.statements());
+        }
+        return response;
+    }
+
+    @PreDestroy
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void checkExplainAllowed() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean allowed = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(properties.getExplainAuthority()::equals);
+        if (!allowed) {
+            throw new AccessDeniedException("Search explain is restricted to administrators");
+        }
+    }
+
+    private void logSlowSearch(PaginationRequest request, Class<?> entityType, Duration elapsed,
+            List<SearchTrace.Statement> statements) {
+        Counter.builder("search.slow")
+                .description("Searches slower than search.slow-log.threshold")
+                .tag("entity", entityType.getSimpleName())
+                .register(meterRegistry)
+                .increment();
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            SearchTrace.Statement statement = statements.get(i);
+            message.append(String.format("%n  [%d] %.1f ms %s binds=%s", i + 1,
+                    millis(statement), statement.getSql(), binds(statement)));
+        }
+        log.warn("Slow search on {} took {} ms (threshold {} ms): {}{}", entityType.getSimpleName(),
+                elapsed.toMillis(), properties.getThreshold().toMillis(), describe(request), message);
+
+        List<SearchTrace.Statement> selects = selects(statements);
+        if (selects.isEmpty()) {
+            return;
+        }
+        explainExecutor.execute(() -> {
+            for (QueryPlan plan : explain(selects)) {
+                log.warn("Plan of slow {} search: {}\n  {}", entityType.getSimpleName(), plan.getSql(),
+                        String.join("\n  ", plan.getPlan()));
+            }
+        });
+    }
+
+    private List<QueryPlan> explain(List<SearchTrace.Statement> statements) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (SearchTrace.Statement statement : selects(statements)) {
+            plans.add(new QueryPlan(statement.getSql(), binds(statement), millis(statement), explain(statement)));
+        }
+        return plans;
+    }
+
+    private List<String> explain(SearchTrace.Statement statement) {
+        try {
+            List<String> plan = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL statement_timeout = " + properties.getExplainTimeout().toMillis());
+                return jdbcTemplate.query("EXPLAIN (ANALYZE, BUFFERS) " + statement.getSql(), ps -> {
+                    for (Map.Entry<Integer, Object> bind : statement.getBinds().entrySet()) {
+                        ps.setObject(bind.getKey(), bind.getValue());
+                    }
+                }, (rs, rowNum) -> rs.getString(1));
+            });
+            return properties.isRedactBinds()
+                    ? plan.stream().map(line -> STRING_LITERAL.matcher(line).replaceAll("'?'")).toList()
+                    : plan;
+        } catch (DataAccessException | TransactionException e) {
+            log.debug("Could not explain search statement: {}", statement.getSql(), e);
+            return List.of("EXPLAIN failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    /**
+     * Only SELECTs are explained; EXPLAIN ANALYZE executes the statement.
+     */
+    private static List<SearchTrace.Statement> selects(List<SearchTrace.Statement> statements) {
+        return statements.stream()
+                .filter(statement -> {
+                    String sql = statement.getSql().stripLeading();
+                    return sql.regionMatches(true, 0, "select", 0, 6);
+                })
+                .toList();
+    }
+
+    private List<String> binds(SearchTrace.Statement statement) {
+        return statement.getBinds().values().stream().map(this::bind).toList();
+    }
+
+    private String bind(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (!properties.isRedactBinds()) {
+            return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        }
+        return value instanceof CharSequence text
+                ? "String(" + text.length() + ")"
+                : value.getClass().getSimpleName();
+    }
+
+    private static double millis(SearchTrace.Statement statement) {
+        return statement.getExecutionNanos() / 1_000_000.0;
+    }
+
+    /**
+     * The request without its values: which fields were filtered with which
+     * operators, the sorts and the paging.
+     */
+    private String describe(PaginationRequest request) {
+        StringJoiner filters = new StringJoiner(", ", "[", "]");
+        request.getFilters().forEach((field, value) -> {
+            if (value instanceof Map<?, ?> operators) {
+                StringJoiner keys = new StringJoiner(",");
+                operators.keySet().forEach(key -> keys.add(String.valueOf(key)));
+                filters.add(field + ":" + keys);
+            } else {
+                filters.add(field);
+            }
+        });
+        StringJoiner sorts = new StringJoiner(", ", "[", "]");
+        request.getSorts().forEach(sort -> sorts.add(sort.getField() + ":" + sort.getDirection()));
+
+        String search = request.getSearch() == null || request.getSearch().isBlank() ? "none"
+                : properties.isRedactBinds() ? "String(" + request.getSearch().length() + ")"
+                : request.getSearch();
+        return String.format("{search=%s, filters=%s, sorts=%s, page=%d, size=%d, mode=%s, countMode=%s}",
+                search, filters, sorts, request.getPage(), request.getSize(),
+                request.isCursorMode() ? "CURSOR" : "OFFSET", request.getCountMode());
+    }
+}
@@ -0,0 +1,89 @@
+package com.valome.starter.service.search;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that records statements into the bound {@link SearchTrace}.
+ *
+ * Connections are wrapped so that {@code prepareStatement} calls made while
+ * a trace is bound return a statement recording its SQL, its {@code set*}
+ * bind values and the time spent in {@code execute*}. Without a bound trace
+ * a call costs one extra reflective dispatch and nothing is recorded.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trace(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trace(super.getConnection(username, password));
+    }
+
+    private static Connection trace(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            SearchTrace trace = SearchTrace.current();
+            if (trace != null && method.getName().equals("prepareStatement")
+                    && result instanceof PreparedStatement statement) {
+                return record(statement, trace.record((String) args[0]));
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement record(PreparedStatement statement, SearchTrace.Statement recorded) {
+        return proxy(PreparedStatement.class, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recorded.bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                recorded.clearBinds();
+            } else if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    recorded.addExecutionNanos(System.nanoTime() - start);
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (self, method, args) -> switch (method.getName()) {
+                    // Identity of the wrapper, not of the wrapped object
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "toString" -> "Tracing[" + target + "]";
+                    default -> handler.invoke(self, method, args);
+                });
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
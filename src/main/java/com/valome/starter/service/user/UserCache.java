@@ -0,0 +1,77 @@
+package com.valome.starter.service.user;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.valome.starter.config.UserCacheProperties;
+import com.valome.starter.model.User;
+import com.valome.starter.util.TransactionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size- and TTL-bounded cache of users keyed by username.
+ *
+ * Sits in front of the entity-graph lookup of requests authenticated by an
+ * access token; login and refresh bypass it. Entries are immutable {@link UserSnapshot}s; each hit
+ * returns a new detached {@link User}. Hit, miss and eviction counters are
+ * published as {@code cache.*} metrics with {@code cache=users}.
+ */
+@Component
+@Slf4j
+public class UserCache {
+    private final boolean enabled;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * Returns the user for the given username, loading and caching it on a
+     * miss. Unknown users are not cached.
+     *
+     * @param username the username
+     * @param loader   loads the user from the database, may return null
+     * @return a detached user, or null if not found
+     */
+    public User get(String username, Function<String, User> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+
+        UserSnapshot snapshot = cache.get(username, key -> {
+            User user = loader.apply(key);
+            return user != null ? UserSnapshot.from(user) : null;
+        });
+        return snapshot != null ? snapshot.toUser() : null;
+    }
+
+    /**
+     * Evicts the given users once the current transaction commits, so a
+     * concurrent reader cannot re-cache the state being replaced.
+     */
+    public void evictAfterCommit(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(usernames);
+        TransactionUtils.afterCommit(() -> {
+            cache.invalidateAll(usernames);
+            log.debug("Evicted {} user(s) from cache", usernames.size());
+        });
+    }
+}
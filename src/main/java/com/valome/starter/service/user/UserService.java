@@ -1,17 +1,46 @@
 package com.valome.starter.service.user;
 
-import org.springframework.data.domain.Page;
-
+import com.valome.starter.dto.auth.ChangePasswordRequest;
 import com.valome.starter.dto.auth.RegisterRequest;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.model.User;
 
 public interface UserService {
+    /**
+     * Returns the user through the user cache, so it may be up to
+     * {@code cache.user.ttl} old on instances other than the one that last
+     * changed it. Only for authenticating requests that carry a token.
+     */
     User findByUsername(String username);
 
+    /**
+     * Reads the user from the database, bypassing the cache. Used wherever a
+     * stale copy must not be trusted: password checks and token issuing.
+     */
+    User findByUsernameUncached(String username);
+
     User register(RegisterRequest request);
 
     User getProfile();
 
-    Page<User> search(PaginationRequest request);
+    /**
+     * Changes the current user's password and revokes all of their tokens.
+     */
+    void changePassword(ChangePasswordRequest request);
+
+    /**
+     * Replaces the stored password hash without revoking tokens; used to
+     * upgrade hashes on login.
+     *
+     * @param username        the username
+     * @param encodedPassword the new, already encoded password
+     * @return the updated user, or null if not found
+     */
+    User updatePasswordHash(String username, String encodedPassword);
+
+    /**
+     * Searches users, each loaded with its roles.
+     */
+    PageResponse<User> search(PaginationRequest request);
 }
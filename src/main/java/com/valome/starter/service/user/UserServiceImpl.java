@@ -1,10 +1,7 @@
 package com.valome.starter.service.user;
 
-import org.hibernate.Hibernate;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import java.util.List;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,12 +9,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.valome.starter.builder.SortBuilder;
+import com.valome.starter.dto.auth.ChangePasswordRequest;
 import com.valome.starter.dto.auth.RegisterRequest;
+import com.valome.starter.dto.search.PageResponse;
 import com.valome.starter.dto.search.PaginationRequest;
 import com.valome.starter.jpa.user.UserJpaRepository;
 import com.valome.starter.model.User;
-import com.valome.starter.service.search.GenericSpecification;
+import com.valome.starter.service.auth.RefreshTokenService;
+import com.valome.starter.service.auth.TokenRevocationService;
+import com.valome.starter.service.search.PaginationService;
 import com.valome.starter.exception.ResourceNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -25,11 +25,23 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final String USER_ROLES = "userRoles";
+    private static final String USER_ROLES_ROLE = "userRoles.role";
+
     private final UserJpaRepository jpaRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final PaginationService paginationService;
 
     @Override
     public User findByUsername(String username) {
+        return userCache.get(username, jpaRepository::findByUsername);
+    }
+
+    @Override
+    public User findByUsernameUncached(String username) {
         return jpaRepository.findByUsername(username);
     }
 
@@ -51,61 +63,74 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User getProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || authentication.getPrincipal() == null) {
-            throw new IllegalArgumentException("User not authenticated");
+        User user = findByUsername(currentUsername());
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
         }
 
-        String username;
-        if (authentication.getPrincipal() instanceof UserDetails) {
-            username = ((UserDetails) authentication.getPrincipal()).getUsername();
-        } else if (authentication.getPrincipal() instanceof String) {
-            username = (String) authentication.getPrincipal();
-        } else {
-            throw new IllegalArgumentException("Invalid authentication principal");
+        return user;
+    }
+
+    @Override
+    @Transactional
+    public void changePassword(ChangePasswordRequest request) {
+        if (request.getNewPassword() == null || request.getNewPassword().isBlank()) {
+            throw new IllegalArgumentException("New password is required");
         }
 
-        User user = findByUsername(username);
+        User user = jpaRepository.findByUsername(currentUsername());
         if (user == null) {
             throw new ResourceNotFoundException("User not found");
         }
 
-        return user;
+        if (request.getCurrentPassword() == null
+                || !passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+            throw new IllegalArgumentException("Current password is incorrect");
+        }
+
+        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        jpaRepository.save(user);
+
+        // Sign out every session, including the one making this request
+        userCache.evictAfterCommit(List.of(user.getUsername()));
+        tokenRevocationService.revokeAllForUser(user.getUsername());
+        refreshTokenService.revokeAllForUser(user.getId());
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<User> search(PaginationRequest request) {
-        // Handle null request - create default initialized request
-        if (request == null) {
-            request = PaginationRequest.createDefault();
-        } else {
-            request.ensureInitialized();
+    @Transactional
+    public User updatePasswordHash(String username, String encodedPassword) {
+        User user = jpaRepository.findByUsername(username);
+        if (user == null) {
+            return null;
         }
 
-        // Build specification for filtering and searching
-        GenericSpecification<User> spec = new GenericSpecification<>(request, User.PAGINATION_FIELDS);
+        user.setPassword(encodedPassword);
+        user = jpaRepository.save(user);
 
-        // Build sort
-        Sort sort = SortBuilder.build(request.getSorts(), User.PAGINATION_FIELDS);
+        userCache.evictAfterCommit(List.of(username));
+        return user;
+    }
 
-        // Build pageable
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<User> search(PaginationRequest request) {
+        // Ids first, then the page's users with their roles in one query
+        return paginationService.searchFetching(request, User.SEARCH_SCHEMA, USER_ROLES, USER_ROLES_ROLE);
+    }
 
-        Page<User> page = jpaRepository.findAll(spec, pageable);
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        page.getContent().forEach(user -> {
-            // Initialize userRoles collection (triggers batch loading)
-            Hibernate.initialize(user.getUserRoles());
-            // Initialize nested Role entities to prevent LazyInitializationException
-            if (user.getUserRoles() != null) {
-                user.getUserRoles().forEach(userRole -> {
-                    Hibernate.initialize(userRole.getRole());
-                });
-            }
-        });
+        if (authentication == null || authentication.getPrincipal() == null) {
+            throw new IllegalArgumentException("User not authenticated");
+        }
 
-        return page;
+        if (authentication.getPrincipal() instanceof UserDetails) {
+            return ((UserDetails) authentication.getPrincipal()).getUsername();
+        } else if (authentication.getPrincipal() instanceof String) {
+            return (String) authentication.getPrincipal();
+        }
+        throw new IllegalArgumentException("Invalid authentication principal");
     }
 }
@@ -0,0 +1,96 @@
+package com.valome.starter.service.user;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.valome.starter.model.Role;
+import com.valome.starter.model.User;
+import com.valome.starter.model.UserRole;
+import com.valome.starter.model.UserRoleId;
+
+/**
+ * Immutable copy of a user and its roles, safe to share across threads.
+ *
+ * The cache stores snapshots rather than managed entities; every read builds
+ * a fresh detached {@link User} so callers can never mutate cached state.
+ * Audit fields are kept too, as the rebuilt user is serialized in profile
+ * and login responses.
+ */
+record UserSnapshot(
+        Long id,
+        String username,
+        String password,
+        String firstName,
+        String lastName,
+        LocalDate dob,
+        String email,
+        boolean active,
+        Long createdBy,
+        Long updatedBy,
+        Long deletedBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime deletedAt,
+        List<RoleSnapshot> roles) {
+
+    record RoleSnapshot(Long id, String name) {
+    }
+
+    static UserSnapshot from(User user) {
+        List<RoleSnapshot> roles = user.getUserRoles() == null ? List.of()
+                : user.getUserRoles().stream()
+                        .map(UserRole::getRole)
+                        .map(role -> new RoleSnapshot(role.getId(), role.getName()))
+                        .toList();
+
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getDob(),
+                user.getEmail(),
+                user.isActive(),
+                user.getCreatedBy(),
+                user.getUpdatedBy(),
+                user.getDeletedBy(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getDeletedAt(),
+                roles);
+    }
+
+    User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setDob(dob);
+        user.setEmail(email);
+        user.setActive(active);
+        user.setCreatedBy(createdBy);
+        user.setUpdatedBy(updatedBy);
+        user.setDeletedBy(deletedBy);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(updatedAt);
+        user.setDeletedAt(deletedAt);
+        user.setUserRoles(roles.stream().map(this::toUserRole).toList());
+        return user;
+    }
+
+    private UserRole toUserRole(RoleSnapshot snapshot) {
+        Role role = new Role();
+        role.setId(snapshot.id());
+        role.setName(snapshot.name());
+
+        UserRole userRole = new UserRole();
+        userRole.setId(new UserRoleId(id, snapshot.id()));
+        userRole.setRole(role);
+        userRole.setNewEntity(false);
+        return userRole;
+    }
+}
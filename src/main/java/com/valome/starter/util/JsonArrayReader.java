@@ -0,0 +1,87 @@
+package com.valome.starter.util;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads a top-level JSON array one element at a time, so a request body of
+ * any length is never held in memory as a whole.
+ *
+ * Each element is read as a tree and then bound to the target type, so an
+ * element that does not bind is returned with an error and reading goes on
+ * with the next one. Malformed JSON cannot be skipped over and is thrown as
+ * a {@link JacksonException} from {@link #next()}.
+ */
+public class JsonArrayReader<T> implements Iterator<JsonArrayReader.Element<T>>, AutoCloseable {
+    private final JsonMapper jsonMapper;
+    private final JsonParser parser;
+    private final Class<T> type;
+    private JsonToken current;
+    private int index;
+
+    /**
+     * An array element: the bound value, or the reason it could not be bound.
+     */
+    public record Element<T>(int index, T value, String error) {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    public JsonArrayReader(JsonMapper jsonMapper, InputStream body, Class<T> type) {
+        this.jsonMapper = jsonMapper;
+        this.type = type;
+        try {
+            this.parser = jsonMapper.createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalArgumentException("Request body must be a JSON array");
+            }
+            this.current = parser.nextToken();
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Request body must be a JSON array: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null && current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public Element<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        JsonNode node = jsonMapper.readTree(parser);
+        int elementIndex = index++;
+        current = parser.nextToken();
+
+        try {
+            return new Element<>(elementIndex, jsonMapper.treeToValue(node, type), null);
+        } catch (JacksonException e) {
+            return new Element<>(elementIndex, null, "Invalid item: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Position of the next element; after a {@link JacksonException}, the
+     * element that could not be read.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.valome.starter.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Lock-free token buckets keyed by string.
+ *
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival
+ * time of the next attempt (GCRA), updated with compare-and-set, so
+ * concurrent attempts on the same key never block each other. Buckets live in
+ * a size-bounded cache and are evicted once idle for a full period, when they
+ * would be full again anyway.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(int capacity, Duration period, long maximumKeys) {
+        int permits = Math.max(1, capacity);
+        this.intervalNanos = Math.max(1, period.toNanos() / permits);
+        this.burstNanos = intervalNanos * permits;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @param key the bucket key
+     * @return zero if the attempt is allowed, otherwise the time until a token
+     *         is available
+     */
+    public Duration tryAcquire(String key) {
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = arrival.get();
+            long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = start + intervalNanos;
+
+            if (next - now > burstNanos) {
+                return Duration.ofNanos(next - now - burstNanos);
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+-- Baseline schema, matching the JPA mappings.
+--
+-- Statements are idempotent so databases created earlier by
+-- spring.jpa.hibernate.ddl-auto=update can be migrated in place
+-- (spring.flyway.baseline-on-migrate=true, baseline-version=0).
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    deleted_by  BIGINT,
+    created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    is_active   BOOLEAN DEFAULT TRUE,
+    username    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255),
+    first_name  VARCHAR(255),
+    last_name   VARCHAR(255),
+    dob         DATE,
+    email       VARCHAR(255),
+    CONSTRAINT users_uk_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    deleted_by  BIGINT,
+    created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    is_active   BOOLEAN DEFAULT TRUE,
+    name        VARCHAR(255) NOT NULL,
+    CONSTRAINT roles_uk_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    role_id     BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (role_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    deleted_by  BIGINT,
+    created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    is_active   BOOLEAN DEFAULT TRUE,
+    name        VARCHAR(255),
+    price       NUMERIC(38, 2),
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_id    VARCHAR(36) PRIMARY KEY,
+    family_id   VARCHAR(36) NOT NULL,
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP NOT NULL,
+    expires_at  TIMESTAMP NOT NULL,
+    used_at     TIMESTAMP,
+    revoked_at  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_idx_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS refresh_tokens_idx_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS refresh_tokens_idx_expires_at ON refresh_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    revocation_key VARCHAR(300) PRIMARY KEY,
+    revoked_at     TIMESTAMP NOT NULL,
+    expires_at     TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS revoked_tokens_idx_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS revoked_tokens_idx_expires_at ON revoked_tokens (expires_at);
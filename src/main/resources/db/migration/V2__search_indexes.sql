@@ -0,0 +1,22 @@
+-- Indexes backing global search (see SearchMode).
+--
+-- FULL_TEXT: products keep a generated tsvector of name and description,
+-- matched with @@ and ranked with ts_rank. The 'simple' configuration must
+-- match SearchFunctionContributor.
+--
+-- TRIGRAM: gin_trgm_ops on lower(column) serves the lower(column) LIKE
+-- '%keyword%' predicates on users and roles.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(description, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS products_idx_search_vector ON products USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS users_idx_first_name_trgm ON users USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS users_idx_last_name_trgm ON users USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS users_idx_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS roles_idx_name_trgm ON roles USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- B-tree indexes for the sargable filter operators (see FilterOperator).
+--
+-- Searches always add deleted_at IS NULL, so the indexes are partial on live
+-- rows. text_pattern_ops lets startsWith (column LIKE 'prefix%') use the
+-- index under any collation; eq and in keep using the unique constraints or
+-- these same indexes.
+
+CREATE INDEX IF NOT EXISTS products_idx_name_pattern
+    ON products (name text_pattern_ops) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS products_idx_price
+    ON products (price) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS products_idx_created_at
+    ON products (created_at) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS users_idx_email_pattern
+    ON users (email text_pattern_ops) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS users_idx_created_at
+    ON users (created_at) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS roles_idx_created_at
+    ON roles (created_at) WHERE deleted_at IS NULL;
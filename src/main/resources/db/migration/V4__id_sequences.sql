@@ -0,0 +1,29 @@
+-- Sequence-generated ids (see BaseModel.id) in place of IDENTITY columns.
+--
+-- Hibernate names each sequence after its entity (<entity>_seq) and, with
+-- the default allocation size of 50, uses the pooled optimizer: every
+-- nextval reserves the 50 ids ending at the returned value. The sequences
+-- must therefore increment by 50.
+--
+-- The columns keep nextval as their default, so rows inserted outside
+-- Hibernate (bulk JDBC writes, scripts) take the returned value itself,
+-- which no pooled block can contain. Each sequence restarts 50 past the
+-- highest existing id so the first block Hibernate reserves is free.
+
+CREATE SEQUENCE IF NOT EXISTS user_seq INCREMENT BY 50;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('user_seq');
+ALTER SEQUENCE user_seq OWNED BY users.id;
+SELECT setval('user_seq', COALESCE((SELECT max(id) FROM users), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS role_seq INCREMENT BY 50;
+ALTER TABLE roles ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE roles ALTER COLUMN id SET DEFAULT nextval('role_seq');
+ALTER SEQUENCE role_seq OWNED BY roles.id;
+SELECT setval('role_seq', COALESCE((SELECT max(id) FROM roles), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS product_seq INCREMENT BY 50;
+ALTER TABLE products ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE products ALTER COLUMN id SET DEFAULT nextval('product_seq');
+ALTER SEQUENCE product_seq OWNED BY products.id;
+SELECT setval('product_seq', COALESCE((SELECT max(id) FROM products), 0) + 50);
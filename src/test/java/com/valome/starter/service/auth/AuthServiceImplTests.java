@@ -0,0 +1,77 @@
+package com.valome.starter.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.valome.starter.dto.auth.AuthRequest;
+import com.valome.starter.dto.auth.LoginResponse;
+import com.valome.starter.dto.auth.RegisterRequest;
+import com.valome.starter.model.User;
+import com.valome.starter.service.user.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"cache.user.enabled=false"
+})
+class AuthServiceImplTests {
+
+	private static final String PASSWORD = "password";
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		RegisterRequest request = new RegisterRequest();
+		request.setUsername("login-" + UUID.randomUUID());
+		request.setPassword(PASSWORD);
+		user = userService.register(request);
+	}
+
+	@AfterEach
+	void deleteUser() {
+		jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", user.getId());
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+	}
+
+	@Test
+	void loginLoadsUserOnce() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		AuthRequest request = new AuthRequest();
+		request.setUsername(user.getUsername());
+		request.setPassword(PASSWORD);
+		LoginResponse response = authService.login(request);
+
+		assertThat(response.getUser().getUsername()).isEqualTo(user.getUsername());
+		assertThat(response.getAccessToken()).isNotBlank();
+		assertThat(response.getRefreshToken()).isNotBlank();
+		// One user lookup with its roles, one refresh token insert
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.valome.starter.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.valome.starter.config.NativeSearchProperties;
+import com.valome.starter.dto.product.ProductResponse;
+import com.valome.starter.dto.search.CountMode;
+import com.valome.starter.dto.search.PageResponse;
+import com.valome.starter.dto.search.PaginationMode;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SortRequest;
+import com.valome.starter.service.product.ProductService;
+
+/**
+ * Runs the same requests through the Criteria and native engines and
+ * expects identical pages, totals and cursors.
+ */
+@SpringBootTest(properties = {
+		"cache.search.enabled=false",
+		"search.slow-log.enabled=false"
+})
+class NativeSearchEngineTests {
+
+	private static final int PRODUCTS = 30;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private NativeSearchProperties nativeSearchProperties;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String prefix;
+
+	private String word;
+
+	@BeforeEach
+	void createProducts() {
+		prefix = "native-" + UUID.randomUUID() + "-";
+		word = "w" + UUID.randomUUID().toString().replace("-", "");
+
+		for (int i = 0; i < PRODUCTS; i++) {
+			// Five prices, so sorts by price need the id tie-breaker
+			jdbcTemplate.update("INSERT INTO products (name, price, description, is_active, created_at, deleted_at) "
+					+ "VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP, NULL)",
+					String.format("%s%02d", prefix, i), BigDecimal.valueOf(10 * (i % 5 + 1)),
+					i % 2 == 0 ? word + " even" : "odd " + word + " " + word);
+		}
+		jdbcTemplate.update("INSERT INTO products (name, price, description, is_active, created_at, deleted_at) "
+				+ "VALUES (?, 30, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", prefix + "deleted", word);
+	}
+
+	@AfterEach
+	void deleteProducts() {
+		nativeSearchProperties.setEnabled(false);
+		jdbcTemplate.update("DELETE FROM products WHERE name LIKE ?", prefix + "%");
+	}
+
+	@Test
+	void filteredAndSortedPagesMatch() {
+		for (int page = 0; page < 4; page++) {
+			PaginationRequest request = request(7);
+			request.setPage(page);
+			request.setFilters(Map.of(
+					"name", Map.of("startsWith", prefix),
+					"price", Map.of("gte", 20)));
+			request.setSorts(List.of(new SortRequest("price", "desc")));
+
+			PageResponse<ProductResponse> response = assertSameOnBothEngines(request);
+			if (page == 0) {
+				assertThat(response.getPage().getTotalElements()).isEqualTo(24);
+			}
+		}
+	}
+
+	@Test
+	void inFilterAndWindowCountMatch() {
+		PaginationRequest request = request(5);
+		request.setCountMode(CountMode.WINDOW);
+		request.setFilters(Map.of(
+				"name", Map.of("startsWith", prefix),
+				"price", Map.of("in", List.of(10, 30))));
+		request.setSorts(List.of(new SortRequest("name", "asc")));
+
+		PageResponse<ProductResponse> response = assertSameOnBothEngines(request);
+		assertThat(response.getPage().getTotalElements()).isEqualTo(12);
+	}
+
+	@Test
+	void rankedSearchMatches() {
+		PaginationRequest request = request(10);
+		request.setSearch(word.substring(0, 12));
+		request.setFilters(Map.of("name", Map.of("startsWith", prefix)));
+
+		PageResponse<ProductResponse> response = assertSameOnBothEngines(request);
+		assertThat(response.getPage().getTotalElements()).isEqualTo(PRODUCTS);
+	}
+
+	@Test
+	void cursorPagesMatchForwardAndBack() {
+		PaginationRequest request = request(8);
+		request.setMode(PaginationMode.CURSOR);
+		request.setFilters(Map.of("name", Map.of("startsWith", prefix)));
+		request.setSorts(List.of(new SortRequest("price", "asc")));
+
+		int rows = 0;
+		String previous = null;
+		PageResponse<ProductResponse> response;
+		do {
+			response = assertSameOnBothEngines(request);
+			rows += response.getContent().size();
+			previous = response.getPage().getPreviousCursor();
+			request.setCursor(response.getPage().getNextCursor());
+		} while (response.getPage().isHasNext());
+		assertThat(rows).isEqualTo(PRODUCTS);
+
+		request.setCursor(previous);
+		assertSameOnBothEngines(request);
+	}
+
+	private PageResponse<ProductResponse> assertSameOnBothEngines(PaginationRequest request) {
+		Function<Boolean, PageResponse<ProductResponse>> search = nativeEngine -> {
+			nativeSearchProperties.setEnabled(nativeEngine);
+			return productService.search(request);
+		};
+
+		PageResponse<ProductResponse> criteria = search.apply(false);
+		PageResponse<ProductResponse> nativeSql = search.apply(true);
+
+		assertThat(nativeSql).isEqualTo(criteria);
+		return criteria;
+	}
+
+	private static PaginationRequest request(int size) {
+		PaginationRequest request = PaginationRequest.createDefault();
+		request.setSize(size);
+		return request;
+	}
+}
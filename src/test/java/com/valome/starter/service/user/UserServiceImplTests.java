@@ -0,0 +1,119 @@
+package com.valome.starter.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.valome.starter.dto.auth.RegisterRequest;
+import com.valome.starter.dto.search.CountMode;
+import com.valome.starter.dto.search.PageResponse;
+import com.valome.starter.dto.search.PaginationRequest;
+import com.valome.starter.dto.search.SortRequest;
+import com.valome.starter.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"search.slow-log.enabled=false"
+})
+class UserServiceImplTests {
+
+	private static final int USERS = 25;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private String prefix;
+
+	private String roleName;
+
+	private Long roleId;
+
+	@BeforeEach
+	void createUsersWithRole() {
+		prefix = "search-" + UUID.randomUUID() + "-";
+		roleName = "ROLE_" + prefix;
+		roleId = jdbcTemplate.queryForObject(
+				"INSERT INTO roles (name, deleted_at) VALUES (?, NULL) RETURNING id", Long.class, roleName);
+
+		for (int i = 0; i < USERS; i++) {
+			RegisterRequest request = new RegisterRequest();
+			request.setUsername(prefix + i);
+			request.setPassword("password");
+			User user = userService.register(request);
+			jdbcTemplate.update("UPDATE users SET email = ? WHERE id = ?", String.format("%s%02d@test", prefix, i),
+					user.getId());
+			jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", user.getId(), roleId);
+			users.add(user);
+		}
+	}
+
+	@AfterEach
+	void deleteUsersAndRole() {
+		jdbcTemplate.update("DELETE FROM user_roles WHERE role_id = ?", roleId);
+		users.forEach(user -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId()));
+		jdbcTemplate.update("DELETE FROM roles WHERE id = ?", roleId);
+	}
+
+	@Test
+	void searchLoadsPageWithRolesInTwoStatements() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		PageResponse<User> page = userService.search(request(20, CountMode.NONE));
+
+		assertThat(page.getContent()).hasSize(20);
+		assertThat(page.getPage().isHasNext()).isTrue();
+		assertThat(page.getContent()).extracting(User::getEmail).isSorted();
+		assertThat(page.getContent()).allSatisfy(user -> {
+			assertThat(Hibernate.isInitialized(user.getUserRoles())).isTrue();
+			assertThat(user.getRoles()).containsExactly(roleName);
+		});
+		// One query for the page's ids, one for those users with their roles
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void exactCountAddsOneStatement() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		PageResponse<User> page = userService.search(request(10, CountMode.EXACT));
+
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.getPage().getTotalElements()).isEqualTo(USERS);
+		// Ids, count, users with roles
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	private PaginationRequest request(int size, CountMode countMode) {
+		PaginationRequest request = PaginationRequest.createDefault();
+		request.setSize(size);
+		request.setCountMode(countMode);
+		request.setFilters(Map.of("email", Map.of("startsWith", prefix)));
+		request.setSorts(List.of(new SortRequest("email", "asc")));
+		return request;
+	}
+}